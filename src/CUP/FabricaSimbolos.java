@@ -0,0 +1,48 @@
+package CUP;
+
+import java_cup.runtime.Symbol;
+import java_cup.runtime.SymbolFactory;
+
+/**
+ * Fábrica de los símbolos que el parser crea al reducir cada regla.
+ * <p>
+ * Crea {@link Symbol} simples, igual que los tokens del lexer, con la posición izquierda del primer
+ * símbolo de la regla y la derecha del último. La {@code ComplexSymbolFactory} de CUP exige que
+ * todos los símbolos, también los tokens, sean de su clase y lleven su ubicación como objeto.
+ * </p>
+ */
+final class FabricaSimbolos implements SymbolFactory {
+
+    @Override
+    public Symbol newSymbol(String nombre, int id, Symbol izquierdo, Symbol derecho, Object valor) {
+        return new Symbol(id, izquierdo, derecho, valor);
+    }
+
+    @Override
+    public Symbol newSymbol(String nombre, int id, Symbol izquierdo, Symbol derecho) {
+        return new Symbol(id, izquierdo, derecho);
+    }
+
+    @Override
+    public Symbol newSymbol(String nombre, int id, Symbol anterior, Object valor) {
+        // Regla vacía: ocupa la posición donde terminó el símbolo anterior
+        return new Symbol(id, anterior, valor);
+    }
+
+    @Override
+    public Symbol newSymbol(String nombre, int id, Object valor) {
+        return new Symbol(id, valor);
+    }
+
+    @Override
+    public Symbol newSymbol(String nombre, int id) {
+        return new Symbol(id);
+    }
+
+    @Override
+    public Symbol startSymbol(String nombre, int id, int estado) {
+        Symbol inicio = new Symbol(id, 0, 0);
+        inicio.parse_state = estado;
+        return inicio;
+    }
+}
@@ -0,0 +1,185 @@
+package CUP;
+
+import Clases.ArbolSintactico;
+import Clases.Funciones;
+import Clases.Identificadores;
+import Clases.Semantico;
+import Clases.TablaSimbolos;
+import Clases.TipoDatos;
+import JFLEX.TokensEmpaquetados;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Análisis sintáctico incremental, por funciones, para volver a analizar un archivo después de
+ * editarlo.
+ * <p>
+ * Cada función se analiza por separado como en {@link ParserParalelo}, con su propio parser y su
+ * propia tabla de símbolos, y su resultado (el árbol, las filas de su tabla y lo que imprimió) se
+ * guarda con la huella de sus tokens como clave. En el análisis siguiente solo se analizan las
+ * funciones cuya huella no está guardada; las demás se unen desde lo guardado, con las mismas
+ * comprobaciones que en el análisis en paralelo. Un resultado guardado se reutiliza si además:
+ * </p>
+ * <ul>
+ *   <li>tiene la misma cantidad de tokens;</li>
+ *   <li>los encabezados de las funciones anteriores son los mismos, porque el análisis de la
+ *   función usó sus firmas;</li>
+ *   <li>ninguno de los nombres que buscó sin importar el ámbito está declarado en las funciones
+ *   anteriores; si alguno lo está, la función se analiza con la tabla de la compilación y ese
+ *   resultado no se guarda.</li>
+ * </ul>
+ * <p>
+ * Si cambió la cantidad de retornos, quiebres o estructuras de control antes de una función, sus
+ * nombres generados ("return3", ...) se renumeran al unirla, y las líneas y columnas de sus tokens
+ * se toman del archivo nuevo. Si el programa tiene errores sintácticos se analiza completo de
+ * forma secuencial y se descarta lo guardado.
+ * </p>
+ * <p>
+ * Los resultados guardados contienen identificadores enteros, así que todos los análisis deben
+ * usar la misma tabla de {@link Identificadores}; si cambia, se descarta lo guardado.
+ * </p>
+ */
+public class ParserIncremental {
+
+    private Identificadores identificadores;
+    private HashMap<Long, Funcion> funciones = new HashMap<>();
+
+    /**
+     * El resultado guardado del análisis de una función.
+     *
+     * @param cantidadTokens   La cantidad de tokens de la función.
+     * @param firmasAnteriores La huella de los encabezados de las funciones anteriores.
+     * @param contador         El número con el que comenzaron sus nombres generados.
+     * @param resultado        El árbol, la tabla y lo que imprimió su análisis.
+     */
+    private record Funcion(int cantidadTokens, long firmasAnteriores, int contador, ParserParalelo.Resultado resultado) {
+    }
+
+    /**
+     * Analiza un programa completo, reutilizando el análisis anterior de las funciones que no
+     * cambiaron.
+     *
+     * @param tokens Los tokens del programa, sin consumir.
+     * @param tabla  La tabla de símbolos de esta compilación, vacía.
+     * @param pool   El pool donde se analizan las funciones que cambiaron.
+     * @return El árbol sintáctico del programa.
+     * @throws Exception Si el análisis lanza una excepción, igual que {@link Parser#parse()}.
+     */
+    public ArbolSintactico analizar(TokensEmpaquetados tokens, TablaSimbolos tabla, ForkJoinPool pool) throws Exception {
+        if (tabla.getIdentificadores() != identificadores) {
+            identificadores = tabla.getIdentificadores();
+            funciones.clear();
+        }
+
+        // Con un tamaño mínimo de un token, cada función queda en su propia parte
+        ParserParalelo.Plan plan = ParserParalelo.planificar(tokens, 1);
+        ParserParalelo.Firmas firmas = null;
+        int[] contadores = null;
+        if (plan != null) {
+            tokens.prepararLecturaConcurrente();
+            tabla.internar("_verano_");
+            contadores = ParserParalelo.internarNombresGenerados(tokens, tabla, plan.cortes());
+            firmas = ParserParalelo.leerFirmas(tokens, tabla, plan);
+        }
+        if (firmas == null) {
+            funciones.clear();
+            return ParserParalelo.analizarSecuencial(tokens, tabla);
+        }
+
+        int[] cortes = plan.cortes();
+        int partes = cortes.length - 1;
+        long[] huellas = new long[partes];
+        long[] firmasAnteriores = new long[partes];
+        Funcion[] guardadas = new Funcion[partes];
+        int[] cambiadas = new int[partes];
+        int cantidadCambiadas = 0;
+        long huellaFirmas = 0;
+        for (int p = 0; p < partes; p++) {
+            huellas[p] = tokens.huella(cortes[p], cortes[p + 1]);
+            firmasAnteriores[p] = huellaFirmas;
+            Funcion guardada = funciones.get(huellas[p]);
+            if (guardada != null && guardada.cantidadTokens() == cortes[p + 1] - cortes[p] && guardada.firmasAnteriores() == huellaFirmas) {
+                guardadas[p] = guardada;
+            } else {
+                cambiadas[cantidadCambiadas++] = p;
+            }
+            huellaFirmas = agregarFirma(huellaFirmas, firmas.nombres()[p], firmas.firmas()[p]);
+        }
+
+        ParserParalelo.Resultado[] nuevos = ParserParalelo.analizarPartes(tokens, tabla, plan, firmas, contadores, Arrays.copyOf(cambiadas, cantidadCambiadas), pool);
+        for (int i = 0; i < cantidadCambiadas; i++) {
+            int p = cambiadas[i];
+            if (nuevos[p] == null || !nuevos[p].arbol().completo()) {
+                funciones.clear();
+                return ParserParalelo.analizarSecuencial(tokens, tabla);
+            }
+            guardadas[p] = new Funcion(cortes[p + 1] - cortes[p], firmasAnteriores[p], contadores[p], nuevos[p]);
+        }
+
+        HashMap<Long, Funcion> usadas = new HashMap<>();
+        List<ArbolSintactico> arboles = new ArrayList<>(partes);
+        boolean[] reutilizadas = new boolean[partes];
+        for (int p = 0; p < partes; p++) {
+            Funcion funcion = guardadas[p];
+            ParserParalelo.Resultado resultado = funcion.resultado();
+            if (ParserParalelo.consultaDeclaradoAntes(resultado.tabla(), tabla)) {
+                // El resultado depende de las funciones anteriores, así que no se guarda
+                Parser parser = new Parser(tokens.fragmento(cortes[p], cortes[p + 1]), tabla);
+                parser.analizarComoFragmento(contadores[p]);
+                parser.parse();
+                arboles.add(parser.arbol);
+            } else {
+                resultado.salida().reproducir(System.err);
+                int desplazamiento = contadores[p] - funcion.contador();
+                IntUnaryOperator renombrar = desplazamiento == 0 ? IntUnaryOperator.identity() : nombre -> renumerar(tabla, nombre, desplazamiento);
+                tabla.anexar(resultado.tabla(), renombrar);
+                arboles.add(resultado.arbol());
+                reutilizadas[p] = nuevos[p] == null;
+                usadas.put(huellas[p], funcion);
+            }
+        }
+        funciones = usadas;
+
+        ArbolSintactico arbol = ArbolSintactico.unir(arboles);
+        for (int p = 0; p < partes; p++) {
+            if (reutilizadas[p]) {
+                for (int i = cortes[p]; i < cortes[p + 1]; i++) {
+                    arbol.reubicarToken(i, tokens.linea(i), tokens.columna(i));
+                }
+            }
+        }
+        tabla.publicarInstantanea();
+        new Semantico(tabla).iniciarAnalisisSemantico();
+        return arbol;
+    }
+
+    /**
+     * Agrega el encabezado de una función a la huella de los encabezados anteriores.
+     */
+    private static long agregarFirma(long huella, int nombre, Funciones.FirmaFuncion firma) {
+        huella = huella * 31 + nombre;
+        huella = huella * 31 + firma.tipoRetorno().ordinal();
+        for (TipoDatos parametro : firma.parametros()) {
+            huella = huella * 31 + parametro.ordinal();
+        }
+        return huella * 31 + firma.parametros().length;
+    }
+
+    /**
+     * Cambia el número de un nombre generado ("return3" a "return5").
+     *
+     * @return El identificador del nombre con el número desplazado.
+     */
+    private static int renumerar(TablaSimbolos tabla, int nombre, int desplazamiento) {
+        String texto = tabla.nombre(nombre);
+        int digitos = texto.length();
+        while (digitos > 0 && Character.isDigit(texto.charAt(digitos - 1))) {
+            digitos--;
+        }
+        return tabla.internar(texto.substring(0, digitos) + (Integer.parseInt(texto.substring(digitos)) + desplazamiento));
+    }
+}
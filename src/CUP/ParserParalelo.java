@@ -0,0 +1,428 @@
+package CUP;
+
+import Clases.ArbolSintactico;
+import Clases.Funciones;
+import Clases.Semantico;
+import Clases.TablaSimbolos;
+import Clases.TipoDatos;
+import JFLEX.TokensEmpaquetados;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Análisis sintáctico en paralelo, por funciones.
+ * <p>
+ * Un programa es una secuencia de funciones y {@code _verano_}, cada una terminada por el cierre
+ * de su bloque. Un recorrido de los tokens que solo cuenta las llaves encuentra esos límites y
+ * agrupa funciones consecutivas en partes de tamaño parecido. Cada parte se analiza en un
+ * {@link ForkJoinPool} con su propio {@link Parser} y su propia {@link TablaSimbolos}, como si
+ * fuera un programa completo, y los resultados se unen en orden.
+ * </p>
+ * <p>
+ * Para que el resultado sea el mismo que el del análisis secuencial:
+ * </p>
+ * <ul>
+ *   <li>Cada tabla local recibe antes las firmas de las funciones de las partes anteriores, que
+ *   se leen de los tokens de sus encabezados, y cada parser comienza a numerar retornos, quiebres
+ *   y estructuras de control donde terminan las partes anteriores.</li>
+ *   <li>El parser de cada parte imprime sus mensajes en un flujo propio, que se guarda y se
+ *   imprime al unirla.</li>
+ *   <li>Una tabla local no tiene los símbolos de las partes anteriores, así que anota los nombres
+ *   que se buscan sin importar el ámbito. Si al unir una parte alguno de esos nombres ya está en la
+ *   tabla, la búsqueda pudo dar otro resultado, y esa parte se vuelve a analizar en ese momento con
+ *   la tabla de la compilación. Si no, sus filas se agregan a la tabla tal como quedaron.</li>
+ *   <li>Si alguna parte tiene errores sintácticos o su análisis lanza una excepción, se descarta
+ *   todo y el programa se analiza de forma secuencial.</li>
+ * </ul>
+ * <p>
+ * El análisis semántico final se ejecuta una sola vez, sobre la tabla unida.
+ * </p>
+ */
+public final class ParserParalelo {
+
+    /** Cantidad mínima de tokens de una parte; los programas más pequeños se analizan de forma secuencial. */
+    private static final int TOKENS_MINIMOS_PARTE = 1 << 12;
+
+    private ParserParalelo() {
+    }
+
+    /**
+     * Analiza un programa completo, en paralelo si tiene varias funciones, es lo bastante grande y
+     * el pool tiene más de un hilo.
+     *
+     * @param tokens Los tokens del programa, sin consumir.
+     * @param tabla  La tabla de símbolos de la compilación, vacía.
+     * @param pool   El pool donde se analizan las partes.
+     * @return El árbol sintáctico del programa.
+     * @throws Exception Si el análisis lanza una excepción, igual que {@link Parser#parse()}.
+     */
+    public static ArbolSintactico analizar(TokensEmpaquetados tokens, TablaSimbolos tabla, ForkJoinPool pool) throws Exception {
+        return analizar(tokens, tabla, pool, TOKENS_MINIMOS_PARTE);
+    }
+
+    /**
+     * Igual que {@link #analizar(TokensEmpaquetados, TablaSimbolos, ForkJoinPool)}, con un
+     * tamaño mínimo de parte dado.
+     */
+    static ArbolSintactico analizar(TokensEmpaquetados tokens, TablaSimbolos tabla, ForkJoinPool pool, int tokensMinimosParte) throws Exception {
+        Plan plan = pool.getParallelism() > 1 ? planificar(tokens, Math.max(tokensMinimosParte, tokens.cantidad() / (pool.getParallelism() * 4))) : null;
+        if (plan == null || plan.cortes.length < 3) {
+            return analizarSecuencial(tokens, tabla);
+        }
+        int partes = plan.cortes.length - 1;
+
+        // Todo lo que se interna durante el análisis se interna antes, para que los hilos solo lean
+        tokens.prepararLecturaConcurrente();
+        tabla.internar("_verano_");
+        int[] contadores = internarNombresGenerados(tokens, tabla, plan.cortes);
+        Firmas firmas = leerFirmas(tokens, tabla, plan);
+        if (firmas == null) {
+            return analizarSecuencial(tokens, tabla);
+        }
+
+        int[] todas = new int[partes];
+        for (int p = 0; p < partes; p++) {
+            todas[p] = p;
+        }
+        Resultado[] resultados = analizarPartes(tokens, tabla, plan, firmas, contadores, todas, pool);
+        for (Resultado resultado : resultados) {
+            if (resultado == null || !resultado.arbol.completo()) {
+                return analizarSecuencial(tokens, tabla);
+            }
+        }
+
+        List<ArbolSintactico> arboles = new ArrayList<>(partes);
+        for (int p = 0; p < partes; p++) {
+            Resultado resultado = resultados[p];
+            if (consultaDeclaradoAntes(resultado.tabla, tabla)) {
+                Parser parser = new Parser(tokens.fragmento(plan.cortes[p], plan.cortes[p + 1]), tabla);
+                parser.analizarComoFragmento(contadores[p]);
+                parser.parse();
+                arboles.add(parser.arbol);
+            } else {
+                resultado.salida.reproducir(System.err);
+                tabla.anexar(resultado.tabla);
+                arboles.add(resultado.arbol);
+            }
+        }
+
+        ArbolSintactico arbol = ArbolSintactico.unir(arboles);
+        tabla.publicarInstantanea();
+        new Semantico(tabla).iniciarAnalisisSemantico();
+        return arbol;
+    }
+
+    /**
+     * Analiza varias partes en el pool, cada una con una tabla propia, guardando lo que imprime
+     * cada una para imprimirlo al unirlas. Requiere {@link TokensEmpaquetados#prepararLecturaConcurrente()}
+     * y que los nombres generados ya estén internados.
+     *
+     * @param partes Los números de las partes a analizar.
+     * @return Por cada parte del plan, su resultado si se pidió, o {@code null} si no se pidió o
+     *         si su análisis lanzó una excepción.
+     */
+    static Resultado[] analizarPartes(TokensEmpaquetados tokens, TablaSimbolos tabla, Plan plan, Firmas firmas, int[] contadores, int[] partes, ForkJoinPool pool) {
+        ArrayList<RecursiveTask<Resultado>> tareas = new ArrayList<>(partes.length);
+        for (int parte : partes) {
+            tareas.add(new RecursiveTask<Resultado>() {
+                @Override
+                protected Resultado compute() {
+                    return analizarParte(tokens, tabla, plan, firmas, contadores, parte);
+                }
+            });
+        }
+
+        Resultado[] resultados = new Resultado[plan.cortes.length - 1];
+        for (RecursiveTask<Resultado> tarea : tareas) {
+            pool.execute(tarea);
+        }
+        for (int i = 0; i < partes.length; i++) {
+            resultados[partes[i]] = tareas.get(i).join();
+        }
+        return resultados;
+    }
+
+    /**
+     * Analiza el programa completo con un solo parser.
+     */
+    static ArbolSintactico analizarSecuencial(TokensEmpaquetados tokens, TablaSimbolos tabla) throws Exception {
+        tokens.reiniciar();
+        Parser parser = new Parser(tokens, tabla);
+        parser.parse();
+        return parser.arbol;
+    }
+
+    /**
+     * Analiza una parte con una tabla propia, guardando lo que imprime.
+     *
+     * @return El resultado, o {@code null} si el análisis lanzó una excepción.
+     */
+    private static Resultado analizarParte(TokensEmpaquetados tokens, TablaSimbolos tabla, Plan plan, Firmas firmas, int[] contadores, int parte) {
+        SalidaCapturada salida = new SalidaCapturada();
+        try {
+            TablaSimbolos local = new TablaSimbolos(tabla.getIdentificadores());
+            local.anotarConsultasPorNombre();
+            int primeraFuncion = plan.primeraFuncion[parte];
+            local.usarFirmasAnteriores(nombre -> firmas.anterior(nombre, primeraFuncion));
+            Parser parser = new Parser(tokens.fragmento(plan.cortes[parte], plan.cortes[parte + 1]), local);
+            parser.analizarComoFragmento(contadores[parte]);
+            parser.usarDiagnosticos(salida.flujo);
+            parser.parse();
+            // El resultado puede guardarse entre análisis, sin retener las firmas de este
+            local.usarFirmasAnteriores(null);
+            return new Resultado(parser.arbol, local, salida);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Indica si alguno de los nombres que una parte buscó sin importar el ámbito ya está declarado
+     * en la tabla de la compilación.
+     */
+    static boolean consultaDeclaradoAntes(TablaSimbolos local, TablaSimbolos tabla) {
+        for (int nombre : local.consultasPorNombre()) {
+            if (tabla.exists(nombre)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Busca los límites de las funciones y los agrupa en partes.
+     *
+     * @param tokens           Los tokens del programa.
+     * @param tokensPorParte   La cantidad de tokens a partir de la cual se cierra una parte.
+     * @return El plan, o {@code null} si el programa no es una secuencia de funciones bien
+     *         delimitadas, con {@code _verano_} al principio o al final; en ese caso el análisis
+     *         secuencial reporta los errores.
+     */
+    static Plan planificar(TokensEmpaquetados tokens, int tokensPorParte) {
+        int cantidad = tokens.cantidad();
+        int[] funciones = new int[16];
+        int cantidadFunciones = 0;
+        int main = -1;
+        int profundidad = 0;
+        int inicioFuncion = 0;
+        for (int i = 0; i < cantidad; i++) {
+            int tipo = tokens.tipo(i);
+            if (i == inicioFuncion) {
+                if (tipo == sym.MAIN) {
+                    if (main != -1) {
+                        return null;
+                    }
+                    main = cantidadFunciones;
+                } else if (!esTipo(tipo)) {
+                    return null;
+                }
+            }
+            if (tipo == sym.OPEN_BLOCK) {
+                profundidad++;
+            } else if (tipo == sym.CLOSE_BLOCK) {
+                if (--profundidad < 0) {
+                    return null;
+                }
+                if (profundidad == 0) {
+                    if (cantidadFunciones + 1 == funciones.length) {
+                        funciones = Arrays.copyOf(funciones, funciones.length * 2);
+                    }
+                    funciones[cantidadFunciones++] = inicioFuncion;
+                    inicioFuncion = i + 1;
+                }
+            }
+        }
+        if (inicioFuncion != cantidad || cantidadFunciones == 0 || (main > 0 && main < cantidadFunciones - 1)) {
+            return null;
+        }
+        funciones[cantidadFunciones] = cantidad;
+
+        ArrayList<Integer> cortes = new ArrayList<>();
+        ArrayList<Integer> primeras = new ArrayList<>();
+        cortes.add(0);
+        primeras.add(0);
+        for (int f = 1; f < cantidadFunciones; f++) {
+            if (funciones[f] - cortes.get(cortes.size() - 1) >= tokensPorParte && cantidad - funciones[f] >= tokensPorParte) {
+                cortes.add(funciones[f]);
+                primeras.add(f);
+            }
+        }
+        cortes.add(cantidad);
+        return new Plan(cortes.stream().mapToInt(Integer::intValue).toArray(),
+                primeras.stream().mapToInt(Integer::intValue).toArray(),
+                Arrays.copyOf(funciones, cantidadFunciones));
+    }
+
+    /**
+     * Interna en orden los nombres que el parser genera para retornos, quiebres y estructuras de
+     * control ("return1", "if2", ...) y calcula con qué número comienza cada parte.
+     *
+     * @return Por cada parte, el número de su primer nombre generado.
+     */
+    static int[] internarNombresGenerados(TokensEmpaquetados tokens, TablaSimbolos tabla, int[] cortes) {
+        int[] contadores = new int[cortes.length - 1];
+        int contador = 1;
+        int parte = 0;
+        for (int i = 0; i < tokens.cantidad(); i++) {
+            while (parte < contadores.length && cortes[parte] == i) {
+                contadores[parte++] = contador;
+            }
+            String prefijo = prefijoGenerado(tokens.tipo(i));
+            if (prefijo != null) {
+                tabla.internar(prefijo + contador);
+                contador++;
+            }
+        }
+        return contadores;
+    }
+
+    /**
+     * Obtiene el prefijo del nombre que el parser genera al reducir la construcción que comienza
+     * con un token.
+     *
+     * @return El prefijo, o {@code null} si el token no comienza una de esas construcciones.
+     */
+    private static String prefijoGenerado(int tipo) {
+        switch (tipo) {
+            case sym.RETURN:
+                return "return";
+            case sym.BREAK:
+                return "break";
+            case sym.IF:
+                return "if";
+            case sym.WHILE:
+                return "while";
+            case sym.FOR:
+                return "for";
+            case sym.SWITCH:
+                return "switch";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Lee las firmas de todas las funciones desde los tokens de sus encabezados, en orden.
+     *
+     * @return Las firmas, o {@code null} si un encabezado no está bien formado.
+     */
+    static Firmas leerFirmas(TokensEmpaquetados tokens, TablaSimbolos tabla, Plan plan) {
+        int cantidad = plan.funciones.length;
+        Firmas firmas = new Firmas(new int[cantidad], new Funciones.FirmaFuncion[cantidad], new HashMap<>());
+        for (int f = 0; f < cantidad; f++) {
+            int i = plan.funciones[f];
+            if (tokens.tipo(i) == sym.MAIN) {
+                firmas.nombres[f] = tabla.internar("_verano_");
+                firmas.firmas[f] = new Funciones.FirmaFuncion(TipoDatos.UNDEFINED, new TipoDatos[0]);
+                continue;
+            }
+            if (tokens.tipo(i + 1) != sym.IDENTIFIER || tokens.tipo(i + 2) != sym.OPEN_PAREN) {
+                return null;
+            }
+            ArrayList<TipoDatos> parametros = new ArrayList<>();
+            int j = i + 3;
+            if (tokens.tipo(j) != sym.CLOSE_PAREN) {
+                while (true) {
+                    if (!esTipo(tokens.tipo(j)) || tokens.tipo(j + 1) != sym.IDENTIFIER) {
+                        return null;
+                    }
+                    parametros.add(tipoDatos(tokens.tipo(j)));
+                    j += 2;
+                    if (tokens.tipo(j) == sym.CLOSE_PAREN) {
+                        break;
+                    }
+                    if (tokens.tipo(j) != sym.COMMA) {
+                        return null;
+                    }
+                    j++;
+                }
+            }
+            firmas.nombres[f] = (Integer) tokens.valor(i + 1);
+            firmas.firmas[f] = new Funciones.FirmaFuncion(tipoDatos(tokens.tipo(i)), parametros.toArray(new TipoDatos[0]));
+        }
+        for (int f = 0; f < cantidad; f++) {
+            firmas.primeraPorNombre.putIfAbsent(firmas.nombres[f], f);
+        }
+        return firmas;
+    }
+
+    private static boolean esTipo(int tipo) {
+        return tipo == sym.INTEGER || tipo == sym.FLOAT || tipo == sym.BOOL || tipo == sym.CHAR || tipo == sym.STRING;
+    }
+
+    /**
+     * Obtiene el tipo de dato de una palabra de tipo, igual que la producción {@code tipos}.
+     */
+    private static TipoDatos tipoDatos(int tipo) {
+        switch (tipo) {
+            case sym.INTEGER:
+                return TipoDatos.INTEGER;
+            case sym.FLOAT:
+                return TipoDatos.FLOAT;
+            case sym.BOOL:
+                return TipoDatos.BOOL;
+            case sym.CHAR:
+                return TipoDatos.CHAR;
+            default:
+                return TipoDatos.STRING;
+        }
+    }
+
+    /**
+     * Los límites de las partes y de las funciones.
+     *
+     * @param cortes         Por cada parte, el índice de su primer token, y al final la cantidad de tokens.
+     * @param primeraFuncion Por cada parte, el número de su primera función.
+     * @param funciones      Por cada función, el índice de su primer token.
+     */
+    record Plan(int[] cortes, int[] primeraFuncion, int[] funciones) {
+    }
+
+    /**
+     * Las firmas de las funciones en orden, con el identificador de su nombre.
+     *
+     * @param primeraPorNombre Por cada nombre, el número de la primera función que lo declara.
+     */
+    record Firmas(int[] nombres, Funciones.FirmaFuncion[] firmas, HashMap<Integer, Integer> primeraPorNombre) {
+
+        /**
+         * Obtiene la firma con la que una función anterior a otra declaró un nombre, como la
+         * vería el análisis secuencial al llegar a esa otra función.
+         *
+         * @param nombre  El identificador del nombre.
+         * @param funcion El número de la función desde la que se busca.
+         * @return La firma, o {@code null} si ninguna función anterior declara el nombre.
+         */
+        Funciones.FirmaFuncion anterior(int nombre, int funcion) {
+            Integer primera = primeraPorNombre.get(nombre);
+            return primera != null && primera < funcion ? firmas[primera] : null;
+        }
+    }
+
+    /**
+     * El resultado de analizar una parte.
+     */
+    record Resultado(ArbolSintactico arbol, TablaSimbolos tabla, SalidaCapturada salida) {
+    }
+
+    /**
+     * Lo que imprimió el análisis de una parte, para imprimirlo al unirla.
+     */
+    static final class SalidaCapturada {
+        private final ByteArrayOutputStream datos = new ByteArrayOutputStream();
+        /** El flujo donde imprime el parser de la parte. */
+        final PrintStream flujo = new PrintStream(datos);
+
+        void reproducir(PrintStream destino) {
+            flujo.flush();
+            byte[] impreso = datos.toByteArray();
+            destino.write(impreso, 0, impreso.length);
+        }
+    }
+}
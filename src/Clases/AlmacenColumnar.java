@@ -0,0 +1,197 @@
+package Clases;
+
+import java.util.Arrays;
+
+/**
+ * Almacenamiento columnar de la tabla de símbolos para entradas muy grandes.
+ * <p>
+ * Cada atributo se guarda en su propio arreglo primitivo (categoría y tipo como ordinales en
+ * {@code byte}, nombre, ámbito, scope y tamaño como {@code int}), dividido en bloques de tamaño
+ * fijo. Crecer solo agrega un bloque nuevo, sin copiar las filas existentes. Los {@link Simbolo}
+ * que entrega {@link #get(int)} son vistas livianas sobre una fila; no se guardan objetos por fila.
+ * </p>
+ */
+public class AlmacenColumnar extends AlmacenSimbolos {
+
+    private static final int BITS_BLOQUE = 12;
+    private static final int TAMANO_BLOQUE = 1 << BITS_BLOQUE;
+    private static final int MASCARA_BLOQUE = TAMANO_BLOQUE - 1;
+
+    private static final TipoDatos[] TIPOS = TipoDatos.values();
+    private static final TipoSimbolo[] TIPOS_TOKEN = TipoSimbolo.values();
+
+    private final Identificadores identificadores;
+
+    private byte[][] tipos;
+    private byte[][] tiposToken;
+    private int[][] nombres;
+    private int[][] arraySizes;
+    private int[][] scopes;
+    private int[][] ambitos;
+    private Object[][] valores;
+    private int cantidad;
+
+    /**
+     * Constructor que inicializa un almacenamiento vacío.
+     *
+     * @param identificadores Tabla de identificadores que resuelve los nombres de los símbolos.
+     */
+    public AlmacenColumnar(Identificadores identificadores) {
+        this.identificadores = identificadores;
+        tipos = new byte[0][];
+        tiposToken = new byte[0][];
+        nombres = new int[0][];
+        arraySizes = new int[0][];
+        scopes = new int[0][];
+        ambitos = new int[0][];
+        valores = new Object[0][];
+        cantidad = 0;
+    }
+
+    @Override
+    public int agregar(TipoDatos tipo, TipoSimbolo tipoToken, int nombre, Object valor, int arraySize, int scope, int ambito) {
+        int fila = cantidad;
+        int bloque = fila >>> BITS_BLOQUE;
+        if (bloque == nombres.length) {
+            agregarBloque();
+        }
+
+        int posicion = fila & MASCARA_BLOQUE;
+        tipos[bloque][posicion] = (byte) tipo.ordinal();
+        tiposToken[bloque][posicion] = (byte) tipoToken.ordinal();
+        nombres[bloque][posicion] = nombre;
+        arraySizes[bloque][posicion] = arraySize;
+        scopes[bloque][posicion] = scope;
+        ambitos[bloque][posicion] = ambito;
+        valores[bloque][posicion] = valor;
+        cantidad++;
+        return fila;
+    }
+
+    private void agregarBloque() {
+        int bloques = nombres.length + 1;
+        tipos = Arrays.copyOf(tipos, bloques);
+        tiposToken = Arrays.copyOf(tiposToken, bloques);
+        nombres = Arrays.copyOf(nombres, bloques);
+        arraySizes = Arrays.copyOf(arraySizes, bloques);
+        scopes = Arrays.copyOf(scopes, bloques);
+        ambitos = Arrays.copyOf(ambitos, bloques);
+        valores = Arrays.copyOf(valores, bloques);
+
+        int ultimo = bloques - 1;
+        tipos[ultimo] = new byte[TAMANO_BLOQUE];
+        tiposToken[ultimo] = new byte[TAMANO_BLOQUE];
+        nombres[ultimo] = new int[TAMANO_BLOQUE];
+        arraySizes[ultimo] = new int[TAMANO_BLOQUE];
+        scopes[ultimo] = new int[TAMANO_BLOQUE];
+        ambitos[ultimo] = new int[TAMANO_BLOQUE];
+        valores[ultimo] = new Object[TAMANO_BLOQUE];
+    }
+
+    @Override
+    public Simbolo get(int fila) {
+        if (fila < 0 || fila >= cantidad) {
+            throw new IndexOutOfBoundsException("Fila " + fila + " fuera de la tabla de símbolos de tamaño " + cantidad);
+        }
+        return new Fila(fila);
+    }
+
+    @Override
+    public int size() {
+        return cantidad;
+    }
+
+    @Override
+    public TipoDatos tipo(int fila) {
+        return TIPOS[tipos[fila >>> BITS_BLOQUE][fila & MASCARA_BLOQUE]];
+    }
+
+    @Override
+    public TipoSimbolo tipoToken(int fila) {
+        return TIPOS_TOKEN[tiposToken[fila >>> BITS_BLOQUE][fila & MASCARA_BLOQUE]];
+    }
+
+    @Override
+    public int nombre(int fila) {
+        return nombres[fila >>> BITS_BLOQUE][fila & MASCARA_BLOQUE];
+    }
+
+    @Override
+    public Object valor(int fila) {
+        return valores[fila >>> BITS_BLOQUE][fila & MASCARA_BLOQUE];
+    }
+
+    @Override
+    public int arraySize(int fila) {
+        return arraySizes[fila >>> BITS_BLOQUE][fila & MASCARA_BLOQUE];
+    }
+
+    @Override
+    public int scope(int fila) {
+        return scopes[fila >>> BITS_BLOQUE][fila & MASCARA_BLOQUE];
+    }
+
+    @Override
+    public int ambito(int fila) {
+        return ambitos[fila >>> BITS_BLOQUE][fila & MASCARA_BLOQUE];
+    }
+
+    /**
+     * Vista de una fila del almacenamiento columnar. Solo guarda el número de fila; lee
+     * directamente de las columnas.
+     */
+    private final class Fila extends Simbolo {
+        private final int fila;
+
+        private Fila(int fila) {
+            this.fila = fila;
+        }
+
+        @Override
+        public TipoDatos getTipo() {
+            return tipo(fila);
+        }
+
+        @Override
+        public TipoSimbolo getTipoToken() {
+            return tipoToken(fila);
+        }
+
+        @Override
+        public String getNombre() {
+            int nombre = nombre(fila);
+            return nombre != -1 ? identificadores.nombre(nombre) : "";
+        }
+
+        @Override
+        public int getIdNombre() {
+            return nombre(fila);
+        }
+
+        @Override
+        public Object getValor() {
+            return valor(fila);
+        }
+
+        @Override
+        public int getArraySize() {
+            return arraySize(fila);
+        }
+
+        @Override
+        public int getScope() {
+            return scope(fila);
+        }
+
+        @Override
+        public String getAmbito() {
+            int ambito = ambito(fila);
+            return ambito != -1 ? identificadores.nombre(ambito) : "";
+        }
+
+        @Override
+        public int getIdAmbito() {
+            return ambito(fila);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package Clases;
+
+import java.util.ArrayList;
+
+/**
+ * Almacenamiento por defecto de la tabla de símbolos: un objeto {@link Simbolo} por fila
+ * dentro de un {@code ArrayList}.
+ */
+public class AlmacenLista extends AlmacenSimbolos {
+
+    private final ArrayList<Entrada> simbolos;
+    private final Identificadores identificadores;
+
+    /**
+     * Constructor que inicializa un almacenamiento vacío.
+     *
+     * @param identificadores Tabla de identificadores que resuelve los nombres de los símbolos.
+     */
+    public AlmacenLista(Identificadores identificadores) {
+        this.simbolos = new ArrayList<>();
+        this.identificadores = identificadores;
+    }
+
+    @Override
+    public int agregar(TipoDatos tipo, TipoSimbolo tipoToken, int nombre, Object valor, int arraySize, int scope, int ambito) {
+        simbolos.add(new Entrada(tipo, tipoToken, nombre, valor, arraySize, scope, ambito, identificadores));
+        return simbolos.size() - 1;
+    }
+
+    @Override
+    public Simbolo get(int fila) {
+        return simbolos.get(fila);
+    }
+
+    @Override
+    public int size() {
+        return simbolos.size();
+    }
+
+    @Override
+    public TipoDatos tipo(int fila) {
+        return simbolos.get(fila).getTipo();
+    }
+
+    @Override
+    public TipoSimbolo tipoToken(int fila) {
+        return simbolos.get(fila).getTipoToken();
+    }
+
+    @Override
+    public int nombre(int fila) {
+        return simbolos.get(fila).getIdNombre();
+    }
+
+    @Override
+    public Object valor(int fila) {
+        return simbolos.get(fila).getValor();
+    }
+
+    @Override
+    public int arraySize(int fila) {
+        return simbolos.get(fila).getArraySize();
+    }
+
+    @Override
+    public int scope(int fila) {
+        return simbolos.get(fila).getScope();
+    }
+
+    @Override
+    public int ambito(int fila) {
+        return simbolos.get(fila).getIdAmbito();
+    }
+
+    /**
+     * Fila guardada como objeto, con todos sus atributos.
+     */
+    private static final class Entrada extends Simbolo {
+        private final TipoDatos tipo;
+        private final TipoSimbolo tipoToken;
+        private final int nombre;
+        private final Object valor;
+        private final int arraySize;
+        private final int scope;
+        private final int ambito;
+        private final Identificadores identificadores;
+
+        private Entrada(TipoDatos tipo, TipoSimbolo tipoToken, int nombre, Object valor, int arraySize, int scope, int ambito,
+                        Identificadores identificadores) {
+            this.tipo = tipo;
+            this.tipoToken = tipoToken;
+            this.nombre = nombre;
+            this.valor = valor;
+            this.arraySize = arraySize;
+            this.scope = scope;
+            this.ambito = ambito;
+            this.identificadores = identificadores;
+        }
+
+        @Override
+        public TipoDatos getTipo() {
+            return tipo;
+        }
+
+        @Override
+        public TipoSimbolo getTipoToken() {
+            return tipoToken;
+        }
+
+        @Override
+        public String getNombre() {
+            return nombre != -1 ? identificadores.nombre(nombre) : "";
+        }
+
+        @Override
+        public int getIdNombre() {
+            return nombre;
+        }
+
+        @Override
+        public Object getValor() {
+            return valor;
+        }
+
+        @Override
+        public int getArraySize() {
+            return arraySize;
+        }
+
+        @Override
+        public int getScope() {
+            return scope;
+        }
+
+        @Override
+        public String getAmbito() {
+            return ambito != -1 ? identificadores.nombre(ambito) : "";
+        }
+
+        @Override
+        public int getIdAmbito() {
+            return ambito;
+        }
+    }
+}
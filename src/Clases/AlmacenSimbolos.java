@@ -0,0 +1,78 @@
+package Clases;
+
+import java.util.AbstractList;
+
+/**
+ * Almacenamiento de las filas de la tabla de símbolos.
+ * <p>
+ * Cada símbolo ocupa una fila identificada por su posición de inserción. Los recorridos completos
+ * de la tabla (por ejemplo en {@link Semantico}) leen las columnas fila por fila con los métodos de
+ * acceso, sin necesidad de obtener un objeto {@link Simbolo} por cada entrada. Como lista, expone
+ * las filas en orden de inserción para {@link TablaSimbolos#getEntries()}.
+ * </p>
+ */
+public abstract class AlmacenSimbolos extends AbstractList<Simbolo> {
+
+    /**
+     * Agrega una fila al final del almacenamiento.
+     *
+     * @param tipo      Tipo de dato del símbolo.
+     * @param tipoToken Categoría del símbolo.
+     * @param nombre    Identificador interno del nombre.
+     * @param valor     Valor del símbolo.
+     * @param arraySize Tamaño del arreglo, o -1 si no es un arreglo.
+     * @param scope     Nivel de anidamiento.
+     * @param ambito    Identificador interno del ámbito.
+     * @return La fila asignada al símbolo.
+     */
+    public abstract int agregar(TipoDatos tipo, TipoSimbolo tipoToken, int nombre, Object valor, int arraySize, int scope, int ambito);
+
+    /**
+     * Obtiene el tipo de dato de una fila.
+     * @param fila La fila del símbolo.
+     * @return Tipo de dato del símbolo.
+     */
+    public abstract TipoDatos tipo(int fila);
+
+    /**
+     * Obtiene la categoría de una fila.
+     * @param fila La fila del símbolo.
+     * @return Categoría del símbolo.
+     */
+    public abstract TipoSimbolo tipoToken(int fila);
+
+    /**
+     * Obtiene el identificador interno del nombre de una fila.
+     * @param fila La fila del símbolo.
+     * @return Identificador del nombre.
+     */
+    public abstract int nombre(int fila);
+
+    /**
+     * Obtiene el valor de una fila.
+     * @param fila La fila del símbolo.
+     * @return Valor del símbolo.
+     */
+    public abstract Object valor(int fila);
+
+    /**
+     * Obtiene el tamaño del arreglo de una fila.
+     * @param fila La fila del símbolo.
+     * @return Tamaño del arreglo, o -1 si no es un arreglo.
+     */
+    public abstract int arraySize(int fila);
+
+    /**
+     * Obtiene el nivel de anidamiento de una fila.
+     * @param fila La fila del símbolo.
+     * @return Nivel de anidamiento.
+     */
+    public abstract int scope(int fila);
+
+    /**
+     * Obtiene el identificador interno del ámbito de una fila.
+     * @param fila La fila del símbolo.
+     * @return Identificador del ámbito.
+     */
+    public abstract int ambito(int fila);
+}
\ No newline at end of file
@@ -0,0 +1,415 @@
+package Clases;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Árbol sintáctico compacto que construye el parser.
+ * <p>
+ * Los nodos no son objetos: cada atributo se guarda en su propio arreglo primitivo, indexado por
+ * el número de nodo (clase como ordinal en {@code byte}, token principal, dato, primer y último
+ * token que abarca, y rango de hijos). Los hijos de un nodo ocupan un rango contiguo de un solo
+ * arreglo de enlaces, así que recorrer el árbol es leer arreglos en orden. Los tokens que leyó el
+ * parser se guardan igual, en arreglos paralelos indexados por su posición en la entrada. Las
+ * expresiones guardan además el valor que calculó el parser al reducirlas, que usa el análisis
+ * semántico.
+ * </p>
+ * <p>
+ * El parser reduce de abajo hacia arriba, así que cada nodo se crea después de sus hijos, con el
+ * primer y el último token de la regla que lo reduce. Los nodos que todavía no tienen padre quedan
+ * pendientes, en orden de aparición; al crear un nodo se toman como hijos los pendientes que
+ * empiezan en su primer token o después. Si hubo un error sintáctico el árbol puede quedar
+ * incompleto (ver {@link #completo()}).
+ * </p>
+ */
+public class ArbolSintactico {
+
+    /** Valor del dato de un nodo que no lo usa. */
+    public static final int SIN_DATO = -1;
+
+    private static final TipoNodo[] TIPOS = TipoNodo.values();
+
+    private int cantidadTokens;
+    private int[] simbolosToken;
+    private int[] lineasToken;
+    private int[] columnasToken;
+    private Object[] valoresToken;
+
+    private int cantidad;
+    private byte[] tipos;
+    private int[] tokens;
+    private int[] datos;
+    private int[] inicios;
+    private int[] fines;
+    private int[] primerosHijos;
+    private int[] cantidadesHijos;
+    private Object[] valores;
+
+    private int cantidadEnlaces;
+    private int[] hijos;
+
+    private int[] pendientes;
+    private int cantidadPendientes;
+
+    private int raiz = -1;
+    private boolean completo = true;
+
+    /**
+     * Constructor que inicializa un árbol vacío.
+     */
+    public ArbolSintactico() {
+        simbolosToken = new int[64];
+        lineasToken = new int[64];
+        columnasToken = new int[64];
+        valoresToken = new Object[64];
+        tipos = new byte[64];
+        tokens = new int[64];
+        datos = new int[64];
+        inicios = new int[64];
+        fines = new int[64];
+        primerosHijos = new int[64];
+        cantidadesHijos = new int[64];
+        valores = new Object[64];
+        hijos = new int[64];
+        pendientes = new int[16];
+    }
+
+    /**
+     * Guarda un token leído por el parser.
+     *
+     * @param simbolo El símbolo terminal del token.
+     * @param linea   La línea del token.
+     * @param columna La columna del token.
+     * @param valor   El valor del token, o {@code null} si no tiene.
+     * @return La posición del token en la entrada.
+     */
+    public int agregarToken(int simbolo, int linea, int columna, Object valor) {
+        if (cantidadTokens == simbolosToken.length) {
+            int capacidad = cantidadTokens * 2;
+            simbolosToken = Arrays.copyOf(simbolosToken, capacidad);
+            lineasToken = Arrays.copyOf(lineasToken, capacidad);
+            columnasToken = Arrays.copyOf(columnasToken, capacidad);
+            valoresToken = Arrays.copyOf(valoresToken, capacidad);
+        }
+        simbolosToken[cantidadTokens] = simbolo;
+        lineasToken[cantidadTokens] = linea;
+        columnasToken[cantidadTokens] = columna;
+        valoresToken[cantidadTokens] = valor;
+        return cantidadTokens++;
+    }
+
+    /**
+     * Amplía el rango de tokens del último nodo pendiente, por ejemplo para incluir los paréntesis
+     * que rodean una expresión.
+     * @param inicio El nuevo primer token.
+     * @param fin    El nuevo último token.
+     */
+    public void extender(int inicio, int fin) {
+        if (cantidadPendientes > 0) {
+            int nodo = pendientes[cantidadPendientes - 1];
+            inicios[nodo] = inicio;
+            fines[nodo] = fin;
+        }
+    }
+
+    /**
+     * Crea un nodo. Sus hijos son los nodos pendientes que empiezan en su primer token o después,
+     * que dejan de estar pendientes.
+     *
+     * @param tipo   La clase del nodo.
+     * @param token  La posición de su token principal.
+     * @param dato   Un dato propio de la clase de nodo, o {@link #SIN_DATO}.
+     * @param inicio La posición de su primer token.
+     * @param fin    La posición de su último token.
+     * @return El número del nodo.
+     */
+    public int agregarNodo(TipoNodo tipo, int token, int dato, int inicio, int fin) {
+        reservarNodos(cantidad + 1);
+
+        int primero = cantidadPendientes;
+        while (primero > 0 && inicios[pendientes[primero - 1]] >= inicio) {
+            primero--;
+        }
+        int cantidadHijos = cantidadPendientes - primero;
+        if (cantidadEnlaces + cantidadHijos > hijos.length) {
+            hijos = Arrays.copyOf(hijos, Math.max(hijos.length * 2, cantidadEnlaces + cantidadHijos));
+        }
+        System.arraycopy(pendientes, primero, hijos, cantidadEnlaces, cantidadHijos);
+
+        int nodo = cantidad++;
+        tipos[nodo] = (byte) tipo.ordinal();
+        tokens[nodo] = token;
+        datos[nodo] = dato;
+        inicios[nodo] = inicio;
+        fines[nodo] = fin;
+        primerosHijos[nodo] = cantidadEnlaces;
+        cantidadesHijos[nodo] = cantidadHijos;
+        cantidadEnlaces += cantidadHijos;
+
+        cantidadPendientes = primero;
+        agregarPendiente(nodo);
+        if (tipo == TipoNodo.PROGRAMA) {
+            raiz = nodo;
+        }
+        return nodo;
+    }
+
+    /**
+     * Asegura espacio en los arreglos de nodos para una cantidad de nodos.
+     * @param capacidadMinima La cantidad de nodos que deben caber.
+     */
+    private void reservarNodos(int capacidadMinima) {
+        if (capacidadMinima > tipos.length) {
+            int capacidad = Math.max(capacidadMinima, tipos.length * 2);
+            tipos = Arrays.copyOf(tipos, capacidad);
+            tokens = Arrays.copyOf(tokens, capacidad);
+            datos = Arrays.copyOf(datos, capacidad);
+            inicios = Arrays.copyOf(inicios, capacidad);
+            fines = Arrays.copyOf(fines, capacidad);
+            primerosHijos = Arrays.copyOf(primerosHijos, capacidad);
+            cantidadesHijos = Arrays.copyOf(cantidadesHijos, capacidad);
+            valores = Arrays.copyOf(valores, capacidad);
+        }
+    }
+
+    /**
+     * Agrega un nodo sin padre al final de los pendientes.
+     * @param nodo El número del nodo.
+     */
+    private void agregarPendiente(int nodo) {
+        if (cantidadPendientes == pendientes.length) {
+            pendientes = Arrays.copyOf(pendientes, cantidadPendientes * 2);
+        }
+        pendientes[cantidadPendientes++] = nodo;
+    }
+
+    /**
+     * Une los árboles de partes consecutivas de un programa, cada una analizada como un programa
+     * propio, en el árbol que habría construido el parser con el programa completo: los tokens y
+     * los nodos se copian en orden, sin el fin de archivo de cada parte salvo el último ni la raíz
+     * de cada parte, y los hijos de esas raíces pasan a ser los hijos de una raíz común.
+     *
+     * @param partes Los árboles completos de cada parte, en orden.
+     * @return El árbol del programa completo.
+     */
+    public static ArbolSintactico unir(List<ArbolSintactico> partes) {
+        ArbolSintactico arbol = new ArbolSintactico();
+        for (ArbolSintactico parte : partes) {
+            int desplazamientoTokens = arbol.cantidadTokens;
+            int desplazamientoNodos = arbol.cantidad;
+            int desplazamientoEnlaces = arbol.cantidadEnlaces;
+
+            int tokensParte = parte.cantidadTokens - 1;
+            for (int i = 0; i < tokensParte; i++) {
+                arbol.agregarToken(parte.simbolosToken[i], parte.lineasToken[i], parte.columnasToken[i], parte.valoresToken[i]);
+            }
+
+            // La raíz de cada parte es su último nodo y sus hijos son sus últimos enlaces
+            int nodosParte = parte.raiz;
+            int enlacesParte = parte.primerosHijos[parte.raiz];
+            arbol.reservarNodos(arbol.cantidad + nodosParte);
+            for (int i = 0; i < nodosParte; i++) {
+                int nodo = desplazamientoNodos + i;
+                arbol.tipos[nodo] = parte.tipos[i];
+                arbol.tokens[nodo] = parte.tokens[i] + desplazamientoTokens;
+                arbol.datos[nodo] = parte.datos[i];
+                arbol.inicios[nodo] = parte.inicios[i] + desplazamientoTokens;
+                arbol.fines[nodo] = parte.fines[i] + desplazamientoTokens;
+                arbol.primerosHijos[nodo] = parte.primerosHijos[i] + desplazamientoEnlaces;
+                arbol.cantidadesHijos[nodo] = parte.cantidadesHijos[i];
+            }
+            System.arraycopy(parte.valores, 0, arbol.valores, desplazamientoNodos, nodosParte);
+            arbol.cantidad += nodosParte;
+
+            if (arbol.cantidadEnlaces + enlacesParte > arbol.hijos.length) {
+                arbol.hijos = Arrays.copyOf(arbol.hijos, Math.max(arbol.hijos.length * 2, arbol.cantidadEnlaces + enlacesParte));
+            }
+            for (int i = 0; i < enlacesParte; i++) {
+                arbol.hijos[arbol.cantidadEnlaces + i] = parte.hijos[i] + desplazamientoNodos;
+            }
+            arbol.cantidadEnlaces += enlacesParte;
+
+            for (int i = 0; i < parte.cantidadesHijos[parte.raiz]; i++) {
+                arbol.agregarPendiente(parte.hijos[enlacesParte + i] + desplazamientoNodos);
+            }
+        }
+        ArbolSintactico ultima = partes.get(partes.size() - 1);
+        int finDeArchivo = ultima.cantidadTokens - 1;
+        int fin = arbol.cantidadTokens - 1;
+        arbol.agregarToken(ultima.simbolosToken[finDeArchivo], ultima.lineasToken[finDeArchivo], ultima.columnasToken[finDeArchivo], null);
+        arbol.agregarNodo(TipoNodo.PROGRAMA, 0, SIN_DATO, 0, fin);
+        return arbol;
+    }
+
+    /**
+     * Indica que hubo un error sintáctico y el árbol no representa toda la entrada.
+     */
+    public void marcarIncompleto() {
+        completo = false;
+    }
+
+    /**
+     * Indica si el árbol representa toda la entrada.
+     * @return {@code false} si hubo un error sintáctico.
+     */
+    public boolean completo() {
+        return completo && raiz >= 0;
+    }
+
+    /**
+     * Obtiene el nodo raíz, de clase {@link TipoNodo#PROGRAMA}.
+     * @return El número del nodo, o -1 si el análisis no llegó a crearlo.
+     */
+    public int raiz() {
+        return raiz;
+    }
+
+    /**
+     * Obtiene la cantidad de nodos.
+     * @return Cantidad de nodos.
+     */
+    public int cantidadNodos() {
+        return cantidad;
+    }
+
+    /**
+     * Obtiene la clase de un nodo.
+     * @param nodo El número del nodo.
+     * @return La clase del nodo.
+     */
+    public TipoNodo tipo(int nodo) {
+        return TIPOS[tipos[nodo]];
+    }
+
+    /**
+     * Obtiene el token principal de un nodo, por ejemplo el nombre declarado o el operador.
+     * @param nodo El número del nodo.
+     * @return La posición del token en la entrada.
+     */
+    public int token(int nodo) {
+        return tokens[nodo];
+    }
+
+    /**
+     * Obtiene el dato de un nodo; en declaraciones, parámetros y funciones es el ordinal de su {@link TipoDatos}.
+     * @param nodo El número del nodo.
+     * @return El dato, o {@link #SIN_DATO}.
+     */
+    public int dato(int nodo) {
+        return datos[nodo];
+    }
+
+    /**
+     * Guarda el valor que calculó el parser para una expresión.
+     * @param nodo  El número del nodo.
+     * @param valor El valor, o {@code null} si no se pudo calcular.
+     */
+    public void anotarValor(int nodo, Object valor) {
+        valores[nodo] = valor;
+    }
+
+    /**
+     * Obtiene el valor que calculó el parser para una expresión.
+     * @param nodo El número del nodo.
+     * @return El valor, o {@code null} si el nodo no es una expresión o no se pudo calcular.
+     */
+    public Object valor(int nodo) {
+        return valores[nodo];
+    }
+
+    /**
+     * Obtiene el primer token que abarca un nodo.
+     * @param nodo El número del nodo.
+     * @return La posición del token en la entrada.
+     */
+    public int inicio(int nodo) {
+        return inicios[nodo];
+    }
+
+    /**
+     * Obtiene el último token que abarca un nodo.
+     * @param nodo El número del nodo.
+     * @return La posición del token en la entrada.
+     */
+    public int fin(int nodo) {
+        return fines[nodo];
+    }
+
+    /**
+     * Obtiene la cantidad de hijos de un nodo.
+     * @param nodo El número del nodo.
+     * @return Cantidad de hijos.
+     */
+    public int cantidadHijos(int nodo) {
+        return cantidadesHijos[nodo];
+    }
+
+    /**
+     * Obtiene un hijo de un nodo.
+     * @param nodo   El número del nodo.
+     * @param indice La posición del hijo, comenzando en 0.
+     * @return El número del nodo hijo.
+     */
+    public int hijo(int nodo, int indice) {
+        if (indice < 0 || indice >= cantidadesHijos[nodo]) {
+            throw new IndexOutOfBoundsException("Hijo " + indice + " fuera del nodo " + nodo + " con " + cantidadesHijos[nodo] + " hijos");
+        }
+        return hijos[primerosHijos[nodo] + indice];
+    }
+
+    /**
+     * Obtiene la cantidad de tokens guardados, incluido el fin de archivo.
+     * @return Cantidad de tokens.
+     */
+    public int cantidadTokens() {
+        return cantidadTokens;
+    }
+
+    /**
+     * Obtiene el símbolo terminal de un token.
+     * @param token La posición del token en la entrada.
+     * @return El símbolo del token.
+     */
+    public int simboloToken(int token) {
+        return simbolosToken[token];
+    }
+
+    /**
+     * Obtiene la línea de un token.
+     * @param token La posición del token en la entrada.
+     * @return La línea.
+     */
+    public int lineaToken(int token) {
+        return lineasToken[token];
+    }
+
+    /**
+     * Obtiene la columna de un token.
+     * @param token La posición del token en la entrada.
+     * @return La columna.
+     */
+    public int columnaToken(int token) {
+        return columnasToken[token];
+    }
+
+    /**
+     * Cambia la línea y la columna de un token, por ejemplo cuando se reutiliza el árbol de una
+     * función que se movió dentro del archivo.
+     * @param token   La posición del token en la entrada.
+     * @param linea   La nueva línea.
+     * @param columna La nueva columna.
+     */
+    public void reubicarToken(int token, int linea, int columna) {
+        lineasToken[token] = linea;
+        columnasToken[token] = columna;
+    }
+
+    /**
+     * Obtiene el valor de un token: el identificador de un nombre o el valor de un literal.
+     * @param token La posición del token en la entrada.
+     * @return El valor, o {@code null} si el token no tiene.
+     */
+    public Object valorToken(int token) {
+        return valoresToken[token];
+    }
+}
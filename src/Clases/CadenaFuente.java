@@ -0,0 +1,99 @@
+package Clases;
+
+/**
+ * Valor de un literal de cadena que apunta al texto fuente en lugar de copiarlo.
+ * <p>
+ * El lexer entrega el buffer completo de la entrada, así que una cadena es solo una posición y una
+ * longitud dentro de ese buffer. El {@code String} se crea la primera vez que se pide con
+ * {@link #toString()} y se guarda para las siguientes. Mientras exista el valor, el buffer de la
+ * entrada no se libera.
+ * </p>
+ */
+public final class CadenaFuente implements CharSequence {
+
+    private final char[] fuente;
+    private final int inicio;
+    private final int longitud;
+    private String texto;
+    private int hash;
+
+    /**
+     * Crea la vista de una cadena.
+     *
+     * @param fuente   El buffer con el texto fuente; no se copia.
+     * @param inicio   La posición del primer carácter de la cadena, sin las comillas.
+     * @param longitud La cantidad de caracteres de la cadena.
+     */
+    public CadenaFuente(char[] fuente, int inicio, int longitud) {
+        this.fuente = fuente;
+        this.inicio = inicio;
+        this.longitud = longitud;
+    }
+
+    @Override
+    public int length() {
+        return longitud;
+    }
+
+    @Override
+    public char charAt(int indice) {
+        if (indice < 0 || indice >= longitud) {
+            throw new IndexOutOfBoundsException(indice);
+        }
+        return fuente[inicio + indice];
+    }
+
+    @Override
+    public CharSequence subSequence(int desde, int hasta) {
+        if (desde < 0 || hasta > longitud || desde > hasta) {
+            throw new IndexOutOfBoundsException("Rango inválido: " + desde + ", " + hasta);
+        }
+        return new CadenaFuente(fuente, inicio + desde, hasta - desde);
+    }
+
+    @Override
+    public String toString() {
+        if (texto == null) {
+            texto = new String(fuente, inicio, longitud);
+        }
+        return texto;
+    }
+
+    /**
+     * Compara el contenido con otra cadena del texto fuente.
+     */
+    @Override
+    public boolean equals(Object otro) {
+        if (this == otro) {
+            return true;
+        }
+        if (!(otro instanceof CadenaFuente)) {
+            return false;
+        }
+        CadenaFuente cadena = (CadenaFuente) otro;
+        if (cadena.longitud != longitud) {
+            return false;
+        }
+        for (int i = 0; i < longitud; i++) {
+            if (fuente[inicio + i] != cadena.fuente[cadena.inicio + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calcula el mismo hash que tendría el {@code String} con este contenido.
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            for (int i = 0; i < longitud; i++) {
+                h = 31 * h + fuente[inicio + i];
+            }
+            hash = h;
+        }
+        return h;
+    }
+}
@@ -8,19 +8,33 @@ public class Funciones {
      */
     public static class EncabezadoFuncion {
         public TipoDatos tipo;
-        public String nombre;
-        public Object parametros;
+        public int nombre;
+        public TipoDatos[] parametros;
+        public int token;
 
         /**
          * Constructor que inicializa un objeto de tipo EncabezadoFuncion.
          * @param tipo El tipo de retorno de la función.
-         * @param nombre El nombre de la función.
-         * @param parametros Los parámetros que acepta la función.
+         * @param nombre El identificador del nombre de la función.
+         * @param parametros Los tipos de los parámetros que acepta la función, en orden de declaración.
+         * @param token La posición del nombre de la función en la entrada.
          */
-        public EncabezadoFuncion(TipoDatos tipo, String nombre, Object parametros) {
+        public EncabezadoFuncion(TipoDatos tipo, int nombre, TipoDatos[] parametros, int token) {
             this.tipo = tipo;
             this.nombre = nombre;
             this.parametros = parametros;
+            this.token = token;
         }
     }
-}
+
+    /**
+     * Firma de una función: tipo de retorno y tipos de los parámetros en orden de declaración.
+     * Se construye una sola vez al reducir la declaración de la función, de modo que cada llamada
+     * se verifica recorriendo solo sus argumentos.
+     *
+     * @param tipoRetorno El tipo de retorno de la función.
+     * @param parametros  Los tipos de los parámetros.
+     */
+    public record FirmaFuncion(TipoDatos tipoRetorno, TipoDatos[] parametros) {
+    }
+}
\ No newline at end of file
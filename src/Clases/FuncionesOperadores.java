@@ -1,11 +1,14 @@
 package Clases;
 
+import java.io.PrintStream;
+
 import java_cup.runtime.Symbol;
 
 /**
  * Clase que proporciona métodos para combinar expresiones aritméticas, relacionales,
  * lógicas y unarias, evaluando su resultado y devolviendo un símbolo con el valor calculado.
- * Los errores se manejan en "modo pánico", reportando el error pero sin detener la ejecución.
+ * Los errores se manejan en "modo pánico", reportando el error pero sin detener la ejecución;
+ * cada método recibe el flujo donde se reportan.
  */
 public class FuncionesOperadores {
 
@@ -13,14 +16,14 @@ public class FuncionesOperadores {
      * Combina dos expresiones aritméticas y un operador, evaluando el resultado.
      *
      * @param operandoIzquierdo Símbolo que representa la expresión del lado izquierdo.
-     * @param operador Símbolo que representa el operador aritmético.
+     * @param operador El operador aritmético.
      * @param operandoDerecho Símbolo que representa la expresión del lado derecho.
+     * @param diagnosticos El flujo donde se imprimen los errores.
      * @return Símbolo que contiene el resultado de la operación aritmética.
      */
-    public static Symbol combinarExpresionesAritmeticas(Symbol operandoIzquierdo, Symbol operador, Symbol operandoDerecho) {
+    public static Symbol combinarExpresionesAritmeticas(Symbol operandoIzquierdo, Operador operador, Symbol operandoDerecho, PrintStream diagnosticos) {
         Object izquierda = operandoIzquierdo.value;
         Object derecha = operandoDerecho.value;
-        String oper = operador.value.toString();
         Object resultado = null;
 
         try {
@@ -28,38 +31,36 @@ public class FuncionesOperadores {
                 int izq = (Integer) izquierda;
                 int der = (Integer) derecha;
 
-                switch (oper) {
-                    case "+": resultado = izq + der; break;
-                    case "-": resultado = izq - der; break;
-                    case "*": resultado = izq * der; break;
-                    case "/":
+                switch (operador) {
+                    case SUMA: resultado = izq + der; break;
+                    case RESTA: resultado = izq - der; break;
+                    case MULTIPLICACION: resultado = izq * der; break;
+                    case DIVISION:
                         if (der == 0) throw new ArithmeticException("División por cero.");
                         resultado = izq / der;
                         break;
-                    case "%": resultado = izq % der; break;
-                    case "^": resultado = Math.pow(izq, der); break;
-                    default: throw new IllegalArgumentException("Operador no soportado: " + oper);
+                    case MODULO: resultado = izq % der; break;
+                    default: throw new IllegalArgumentException("Operador no soportado: " + operador);
                 }
             } else if (izquierda instanceof Float || derecha instanceof Float) {
                 float izq = ((Number) izquierda).floatValue();
                 float der = ((Number) derecha).floatValue();
 
-                switch (oper) {
-                    case "+": resultado = izq + der; break;
-                    case "-": resultado = izq - der; break;
-                    case "*": resultado = izq * der; break;
-                    case "/":
+                switch (operador) {
+                    case SUMA: resultado = izq + der; break;
+                    case RESTA: resultado = izq - der; break;
+                    case MULTIPLICACION: resultado = izq * der; break;
+                    case DIVISION:
                         if (der == 0.0) throw new ArithmeticException("División por cero.");
                         resultado = izq / der;
                         break;
-                    case "^": resultado = Math.pow(izq, der); break;
-                    default: throw new IllegalArgumentException("Operador no soportado: " + oper);
+                    default: throw new IllegalArgumentException("Operador no soportado: " + operador);
                 }
             } else {
-                throw new IllegalArgumentException("Tipos incompatibles: " + izquierda.getClass() + " y " + derecha.getClass());
+                throw new IllegalArgumentException("Tipos incompatibles: " + clase(izquierda.getClass()) + " y " + clase(derecha.getClass()));
             }
         } catch (Exception e) {
-            System.err.println("Error semántico: " + e.getMessage());
+            diagnosticos.println("Error semántico: " + e.getMessage());
             resultado = null;
         }
 
@@ -70,25 +71,26 @@ public class FuncionesOperadores {
      * Combina dos expresiones y un operador relacional, evaluando el resultado.
      *
      * @param operandoIzquierdo Símbolo que representa la expresión del lado izquierdo.
-     * @param operador Símbolo que representa el operador relacional.
+     * @param operador El operador relacional.
      * @param operandoDerecho Símbolo que representa la expresión del lado derecho.
+     * @param diagnosticos El flujo donde se imprimen los errores.
      * @return Símbolo que contiene el resultado de la operación relacional (booleano).
      */
-    public static Symbol combinarExpresionesRelacionales(Symbol operandoIzquierdo, Symbol operador, Symbol operandoDerecho) {
+    public static Symbol combinarExpresionesRelacionales(Symbol operandoIzquierdo, Operador operador, Symbol operandoDerecho, PrintStream diagnosticos) {
         try {
             if (operandoIzquierdo.value instanceof Number && operandoDerecho.value instanceof Number) {
                 Float valorIzquierda = ((Number) operandoIzquierdo.value).floatValue();
                 Float valorDerecha = ((Number) operandoDerecho.value).floatValue();
 
                 boolean resultado;
-                switch (operador.value.toString()) {
-                    case "<": resultado = valorIzquierda < valorDerecha; break;
-                    case ">": resultado = valorIzquierda > valorDerecha; break;
-                    case "<=": resultado = valorIzquierda <= valorDerecha; break;
-                    case ">=": resultado = valorIzquierda >= valorDerecha; break;
-                    case "==": resultado = valorIzquierda.equals(valorDerecha); break;
-                    case "!=": resultado = !valorIzquierda.equals(valorDerecha); break;
-                    default: throw new IllegalArgumentException("Operador relacional no válido: " + operador.value);
+                switch (operador) {
+                    case MENOR: resultado = valorIzquierda < valorDerecha; break;
+                    case MAYOR: resultado = valorIzquierda > valorDerecha; break;
+                    case MENOR_IGUAL: resultado = valorIzquierda <= valorDerecha; break;
+                    case MAYOR_IGUAL: resultado = valorIzquierda >= valorDerecha; break;
+                    case IGUAL: resultado = valorIzquierda.equals(valorDerecha); break;
+                    case DIFERENTE: resultado = !valorIzquierda.equals(valorDerecha); break;
+                    default: throw new IllegalArgumentException("Operador relacional no válido: " + operador);
                 }
 
                 return new Symbol(-1, resultado);
@@ -96,7 +98,7 @@ public class FuncionesOperadores {
                 throw new IllegalArgumentException("Tipos incompatibles para comparación relacional");
             }
         } catch (Exception e) {
-            System.err.println("Error semántico: " + e.getMessage());
+            diagnosticos.println("Error semántico: " + e.getMessage());
             return null;
         }
     }
@@ -105,14 +107,14 @@ public class FuncionesOperadores {
      * Combina dos expresiones y un operador lógico, evaluando el resultado.
      *
      * @param operandoIzquierdo Símbolo que representa la expresión del lado izquierdo.
-     * @param operador Símbolo que representa el operador lógico.
+     * @param operador El operador lógico.
      * @param operandoDerecho Símbolo que representa la expresión del lado derecho (puede ser null).
+     * @param diagnosticos El flujo donde se imprimen los errores.
      * @return Símbolo que contiene el resultado de la operación lógica (booleano).
      */
-    public static Symbol combinarExpresionesLogicas(Symbol operandoIzquierdo, Symbol operador, Symbol operandoDerecho) {
+    public static Symbol combinarExpresionesLogicas(Symbol operandoIzquierdo, Operador operador, Symbol operandoDerecho, PrintStream diagnosticos) {
         Object izquierda = operandoIzquierdo != null ? operandoIzquierdo.value : null;
         Object derecha = operandoDerecho != null ? operandoDerecho.value : null;
-        String oper = operador.value.toString();
         Object resultado = null;
 
         try {
@@ -120,16 +122,16 @@ public class FuncionesOperadores {
                 boolean izq = (Boolean) izquierda;
                 boolean der = derecha != null ? (Boolean) derecha : false;
 
-                switch (oper) {
-                    case "&&": resultado = izq && der; break;
-                    case "||": resultado = izq || der; break;
-                    default: throw new IllegalArgumentException("Operador lógico no soportado: " + oper);
+                switch (operador) {
+                    case Y: resultado = izq && der; break;
+                    case O: resultado = izq || der; break;
+                    default: throw new IllegalArgumentException("Operador lógico no soportado: " + operador);
                 }
             } else {
-                throw new IllegalArgumentException("Tipos incompatibles: " + izquierda.getClass() + " y " + (derecha != null ? derecha.getClass() : "null"));
+                throw new IllegalArgumentException("Tipos incompatibles: " + clase(izquierda.getClass()) + " y " + (derecha != null ? clase(derecha.getClass()) : "null"));
             }
         } catch (Exception e) {
-            System.err.println("Error semántico: " + e.getMessage());
+            diagnosticos.println("Error semántico: " + e.getMessage());
             resultado = null;
         }
 
@@ -140,11 +142,12 @@ public class FuncionesOperadores {
      * Combina una expresión y un operador unario, evaluando el resultado.
      *
      * @param termino Símbolo que representa el término al que se aplica el operador.
-     * @param operador Símbolo que representa el operador unario.
+     * @param operador El operador unario.
      * @param esPrefijo Indica si el operador es prefijo (true) o postfijo (false).
+     * @param diagnosticos El flujo donde se imprimen los errores.
      * @return Símbolo que contiene el resultado de la operación unaria.
      */
-    public static Symbol combinarExpresionUnaria(Symbol termino, Symbol operador, boolean esPrefijo) {
+    public static Symbol combinarExpresionUnaria(Symbol termino, Operador operador, boolean esPrefijo, PrintStream diagnosticos) {
         try {
             Object valorTermino = termino.value;
 
@@ -152,32 +155,39 @@ public class FuncionesOperadores {
                 throw new IllegalArgumentException("El término debe ser un número (Float o Integer)");
             }
 
-            if (!(operador.value instanceof String)) {
-                throw new IllegalArgumentException("El operador unario debe ser una cadena");
-            }
-            String operadorUnario = (String) operador.value;
-
             Number resultado = null;
             if (valorTermino instanceof Integer) {
                 int numero = (Integer) valorTermino;
-                switch (operadorUnario) {
-                    case "++": resultado = esPrefijo ? numero + 1 : numero; termino.value = numero + 1; break;
-                    case "--": resultado = esPrefijo ? numero - 1 : numero; termino.value = numero - 1; break;
-                    default: throw new IllegalArgumentException("Operador unario no soportado: " + operadorUnario);
+                switch (operador) {
+                    case INCREMENTO: resultado = esPrefijo ? numero + 1 : numero; termino.value = numero + 1; break;
+                    case DECREMENTO: resultado = esPrefijo ? numero - 1 : numero; termino.value = numero - 1; break;
+                    default: throw new IllegalArgumentException("Operador unario no soportado: " + operador);
                 }
             } else if (valorTermino instanceof Float) {
                 float numero = (Float) valorTermino;
-                switch (operadorUnario) {
-                    case "++": resultado = esPrefijo ? numero + 1 : numero; termino.value = numero + 1; break;
-                    case "--": resultado = esPrefijo ? numero - 1 : numero; termino.value = numero - 1; break;
-                    default: throw new IllegalArgumentException("Operador unario no soportado: " + operadorUnario);
+                switch (operador) {
+                    case INCREMENTO: resultado = esPrefijo ? numero + 1 : numero; termino.value = numero + 1; break;
+                    case DECREMENTO: resultado = esPrefijo ? numero - 1 : numero; termino.value = numero - 1; break;
+                    default: throw new IllegalArgumentException("Operador unario no soportado: " + operador);
                 }
             }
 
             return new Symbol(-1, resultado);
         } catch (Exception e) {
-            System.err.println("Error semántico: " + e.getMessage());
+            diagnosticos.println("Error semántico: " + e.getMessage());
             return null;
         }
     }
+
+    /**
+     * Obtiene la clase de un valor como se muestra en los mensajes de error. Las cadenas pueden
+     * llegar como {@link CadenaFuente}, que apunta al texto fuente sin copiarlo; en el mensaje se
+     * muestran como {@code String}, igual que cualquier cadena del lenguaje.
+     *
+     * @param clase La clase del valor.
+     * @return La clase que se muestra en el mensaje.
+     */
+    private static Class<?> clase(Class<?> clase) {
+        return CharSequence.class.isAssignableFrom(clase) ? String.class : clase;
+    }
 }
\ No newline at end of file
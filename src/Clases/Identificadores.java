@@ -0,0 +1,181 @@
+package Clases;
+
+import java.util.Arrays;
+
+/**
+ * Tabla de internamiento de identificadores.
+ * <p>
+ * Asigna a cada nombre distinto un identificador entero denso (0, 1, 2, ...). El lexer la llena
+ * directamente desde su buffer de caracteres, de modo que un identificador repetido no crea un
+ * nuevo {@code String}, y el resto del compilador compara nombres como enteros.
+ * </p>
+ */
+public class Identificadores {
+
+    private static final int CAPACIDAD_INICIAL = 256;
+
+    private String[] nombres;
+    private Integer[] valores;
+    private int[] hashes;
+    private int[] tabla;
+    private int cantidad;
+
+    /**
+     * Constructor que inicializa una tabla de identificadores vacía.
+     */
+    public Identificadores() {
+        nombres = new String[CAPACIDAD_INICIAL];
+        valores = new Integer[CAPACIDAD_INICIAL];
+        hashes = new int[CAPACIDAD_INICIAL];
+        tabla = new int[CAPACIDAD_INICIAL * 2];
+        Arrays.fill(tabla, -1);
+        cantidad = 0;
+    }
+
+    /**
+     * Interna el identificador contenido en un rango de un buffer de caracteres.
+     * Solo se crea un {@code String} la primera vez que aparece el nombre.
+     *
+     * @param buffer   El buffer que contiene el identificador.
+     * @param inicio   La posición inicial del identificador.
+     * @param longitud La cantidad de caracteres del identificador.
+     * @return El identificador entero asociado al nombre.
+     */
+    public int internar(char[] buffer, int inicio, int longitud) {
+        int hash = 0;
+        for (int i = inicio; i < inicio + longitud; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+
+        int mascara = tabla.length - 1;
+        int posicion = mezclar(hash) & mascara;
+        while (tabla[posicion] != -1) {
+            int id = tabla[posicion];
+            if (hashes[id] == hash && mismoNombre(nombres[id], buffer, inicio, longitud)) {
+                return id;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+
+        return agregar(new String(buffer, inicio, longitud), hash, posicion);
+    }
+
+    /**
+     * Interna un nombre dado como cadena, por ejemplo los nombres generados por el parser.
+     *
+     * @param nombre El nombre a internar.
+     * @return El identificador entero asociado al nombre.
+     */
+    public int internar(String nombre) {
+        int id = buscar(nombre);
+        if (id != -1) {
+            return id;
+        }
+        int hash = nombre.hashCode();
+        int mascara = tabla.length - 1;
+        int posicion = mezclar(hash) & mascara;
+        while (tabla[posicion] != -1) {
+            posicion = (posicion + 1) & mascara;
+        }
+        return agregar(nombre, hash, posicion);
+    }
+
+    /**
+     * Busca un nombre sin internarlo.
+     *
+     * @param nombre El nombre a buscar.
+     * @return El identificador entero del nombre, o -1 si nunca fue internado.
+     */
+    public int buscar(String nombre) {
+        int hash = nombre.hashCode();
+        int mascara = tabla.length - 1;
+        int posicion = mezclar(hash) & mascara;
+        while (tabla[posicion] != -1) {
+            int id = tabla[posicion];
+            if (hashes[id] == hash && nombres[id].equals(nombre)) {
+                return id;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+        return -1;
+    }
+
+    /**
+     * Obtiene el nombre asociado a un identificador.
+     *
+     * @param id El identificador entero.
+     * @return El nombre original.
+     */
+    public String nombre(int id) {
+        return nombres[id];
+    }
+
+    /**
+     * Obtiene el identificador como objeto para usarlo como valor de un token.
+     * Siempre devuelve la misma instancia para el mismo identificador.
+     *
+     * @param id El identificador entero.
+     * @return El identificador encapsulado en un {@code Integer} compartido.
+     */
+    public Integer valor(int id) {
+        return valores[id];
+    }
+
+    /**
+     * Obtiene la cantidad de nombres distintos internados.
+     *
+     * @return La cantidad de identificadores.
+     */
+    public int cantidad() {
+        return cantidad;
+    }
+
+    private int agregar(String nombre, int hash, int posicion) {
+        if (cantidad == nombres.length) {
+            nombres = Arrays.copyOf(nombres, cantidad * 2);
+            valores = Arrays.copyOf(valores, cantidad * 2);
+            hashes = Arrays.copyOf(hashes, cantidad * 2);
+        }
+
+        int id = cantidad++;
+        nombres[id] = nombre;
+        valores[id] = id;
+        hashes[id] = hash;
+        tabla[posicion] = id;
+
+        // Mantener el factor de carga por debajo de 1/2
+        if (cantidad * 2 > tabla.length) {
+            redimensionar();
+        }
+        return id;
+    }
+
+    private void redimensionar() {
+        tabla = new int[tabla.length * 2];
+        Arrays.fill(tabla, -1);
+        int mascara = tabla.length - 1;
+        for (int id = 0; id < cantidad; id++) {
+            int posicion = mezclar(hashes[id]) & mascara;
+            while (tabla[posicion] != -1) {
+                posicion = (posicion + 1) & mascara;
+            }
+            tabla[posicion] = id;
+        }
+    }
+
+    private static boolean mismoNombre(String nombre, char[] buffer, int inicio, int longitud) {
+        if (nombre.length() != longitud) {
+            return false;
+        }
+        for (int i = 0; i < longitud; i++) {
+            if (nombre.charAt(i) != buffer[inicio + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int mezclar(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
\ No newline at end of file
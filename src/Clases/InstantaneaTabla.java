@@ -0,0 +1,148 @@
+package Clases;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+
+/**
+ * Vista inmutable de la tabla de símbolos en un momento de la compilación.
+ * <p>
+ * Las filas se guardan en bloques de tamaño fijo. Al publicar una nueva instantánea solo se copia el
+ * último bloque incompleto y se agregan las filas nuevas; los bloques llenos se comparten con las
+ * instantáneas anteriores. Cada fila es una copia congelada del símbolo con los nombres ya resueltos,
+ * de modo que otro hilo puede recorrerla sin bloqueos mientras el parser sigue agregando símbolos.
+ * </p>
+ */
+public final class InstantaneaTabla extends AbstractList<Simbolo> {
+
+    private static final int BITS_BLOQUE = 6;
+    private static final int TAMANO_BLOQUE = 1 << BITS_BLOQUE;
+    private static final int MASCARA_BLOQUE = TAMANO_BLOQUE - 1;
+
+    /**
+     * Instantánea de una tabla sin símbolos.
+     */
+    public static final InstantaneaTabla VACIA = new InstantaneaTabla(new Simbolo[0][], 0);
+
+    private final Simbolo[][] bloques;
+    private final int cantidad;
+
+    private InstantaneaTabla(Simbolo[][] bloques, int cantidad) {
+        this.bloques = bloques;
+        this.cantidad = cantidad;
+    }
+
+    /**
+     * Crea la instantánea siguiente agregando las filas insertadas desde esta instantánea.
+     *
+     * @param almacen         El almacenamiento de la tabla de símbolos.
+     * @param identificadores La tabla de identificadores que resuelve los nombres.
+     * @return Una nueva instantánea, o esta misma si no hay filas nuevas.
+     */
+    InstantaneaTabla extender(AlmacenSimbolos almacen, Identificadores identificadores) {
+        int nuevaCantidad = almacen.size();
+        if (nuevaCantidad == cantidad) {
+            return this;
+        }
+
+        Simbolo[][] nuevosBloques = Arrays.copyOf(bloques, (nuevaCantidad + MASCARA_BLOQUE) >>> BITS_BLOQUE);
+        for (int fila = cantidad; fila < nuevaCantidad; fila++) {
+            int bloque = fila >>> BITS_BLOQUE;
+            int posicion = fila & MASCARA_BLOQUE;
+
+            // El primer bloque tocado puede estar compartido con la instantánea anterior: se copia
+            if (fila == cantidad || posicion == 0) {
+                nuevosBloques[bloque] = bloque < bloques.length
+                        ? Arrays.copyOf(bloques[bloque], TAMANO_BLOQUE)
+                        : new Simbolo[TAMANO_BLOQUE];
+            }
+            nuevosBloques[bloque][posicion] = new SimboloFijo(almacen, fila, identificadores);
+        }
+        return new InstantaneaTabla(nuevosBloques, nuevaCantidad);
+    }
+
+    @Override
+    public Simbolo get(int fila) {
+        if (fila < 0 || fila >= cantidad) {
+            throw new IndexOutOfBoundsException("Fila " + fila + " fuera de la instantánea de tamaño " + cantidad);
+        }
+        return bloques[fila >>> BITS_BLOQUE][fila & MASCARA_BLOQUE];
+    }
+
+    @Override
+    public int size() {
+        return cantidad;
+    }
+
+    /**
+     * Copia congelada de una fila. Los nombres se resuelven al crearla porque la tabla de
+     * identificadores no es segura para lecturas desde otros hilos.
+     */
+    private static final class SimboloFijo extends Simbolo {
+        private final TipoDatos tipo;
+        private final TipoSimbolo tipoToken;
+        private final int nombre;
+        private final Object valor;
+        private final int arraySize;
+        private final int scope;
+        private final int ambito;
+        private final String textoNombre;
+        private final String textoAmbito;
+
+        private SimboloFijo(AlmacenSimbolos almacen, int fila, Identificadores identificadores) {
+            tipo = almacen.tipo(fila);
+            tipoToken = almacen.tipoToken(fila);
+            nombre = almacen.nombre(fila);
+            valor = almacen.valor(fila);
+            arraySize = almacen.arraySize(fila);
+            scope = almacen.scope(fila);
+            ambito = almacen.ambito(fila);
+            textoNombre = nombre != -1 ? identificadores.nombre(nombre) : "";
+            textoAmbito = ambito != -1 ? identificadores.nombre(ambito) : "";
+        }
+
+        @Override
+        public TipoDatos getTipo() {
+            return tipo;
+        }
+
+        @Override
+        public TipoSimbolo getTipoToken() {
+            return tipoToken;
+        }
+
+        @Override
+        public int getIdNombre() {
+            return nombre;
+        }
+
+        @Override
+        public Object getValor() {
+            return valor;
+        }
+
+        @Override
+        public int getArraySize() {
+            return arraySize;
+        }
+
+        @Override
+        public int getScope() {
+            return scope;
+        }
+
+        @Override
+        public int getIdAmbito() {
+            return ambito;
+        }
+
+        @Override
+        public String getNombre() {
+            return textoNombre;
+        }
+
+        @Override
+        public String getAmbito() {
+            return textoAmbito;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package Clases;
+
+/**
+ * Enumeración de los operadores de las expresiones. Las producciones de operadores del parser
+ * devuelven estas constantes compartidas en lugar de crear un símbolo por cada operador.
+ */
+public enum Operador {
+    SUMA("+"),
+    RESTA("-"),
+    MULTIPLICACION("*"),
+    DIVISION("/"),
+    MODULO("%"),
+    POTENCIA("**"),
+    MENOR("<"),
+    MENOR_IGUAL("<="),
+    MAYOR(">"),
+    MAYOR_IGUAL(">="),
+    IGUAL("=="),
+    DIFERENTE("!="),
+    Y("&&"),
+    O("||"),
+    INCREMENTO("++"),
+    DECREMENTO("--"),
+    NEGACION("!");
+
+    private final String texto;
+
+    Operador(String texto) {
+        this.texto = texto;
+    }
+
+    /**
+     * Devuelve el operador como se escribe en el código fuente, por ejemplo en los mensajes de error.
+     *
+     * @return El texto del operador.
+     */
+    @Override
+    public String toString() {
+        return texto;
+    }
+}
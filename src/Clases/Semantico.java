@@ -1,5 +1,9 @@
 package Clases;
 
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Clase encargada de realizar el análisis semántico del código.
  * Contiene métodos para verificar la validez de las construcciones del lenguaje,
@@ -8,6 +12,7 @@ package Clases;
 public class Semantico {
 
     private TablaSimbolos tablaSimbolos;
+    private PrintStream diagnosticos = System.err;
 
     /**
      * Constructor de la clase Semantico.
@@ -19,61 +24,316 @@ public class Semantico {
     }
 
     /**
-     * Inicializa el analisis semántico del código.
+     * Hace que el análisis imprima sus mensajes de error en un flujo dado en lugar de la salida de
+     * errores.
+     *
+     * @param diagnosticos El flujo donde se imprimen.
      */
+    public void usarDiagnosticos(PrintStream diagnosticos) {
+        this.diagnosticos = diagnosticos;
+    }
 
+    /**
+     * Inicializa el analisis semántico del código.
+     */
     public void iniciarAnalisisSemantico() {
         verificarReturns();
         verificarBreaks();
     }
 
+    /**
+     * Verifica la construcción de un nodo que el parser acaba de agregar al árbol, contra la tabla
+     * de símbolos en ese punto del análisis.
+     * <p>
+     * Se verifican las asignaciones, las declaraciones con valor inicial y las llamadas con
+     * argumentos; los tipos de las expresiones salen de los valores anotados en los hijos del nodo.
+     * </p>
+     *
+     * @param arbol El árbol sintáctico en construcción.
+     * @param nodo  El número del nodo.
+     */
+    public void verificarNodo(ArbolSintactico arbol, int nodo) {
+        switch (arbol.tipo(nodo)) {
+            case DECLARACION_ASIGNACION:
+                verificarAsignacion(nombreNodo(arbol, nodo), arbol.valor(arbol.hijo(nodo, 0)));
+                break;
+            case DECLARACION_ARREGLO:
+                if (arbol.cantidadHijos(nodo) == 2) {
+                    verificarAsignacionArregloCompleto(nombreNodo(arbol, nodo), valoresInicializador(arbol, arbol.hijo(nodo, 1)));
+                }
+                break;
+            case ASIGNACION: {
+                int nombre = nombreNodo(arbol, nodo);
+                int valor = arbol.hijo(nodo, 0);
+                if (arbol.tipo(valor) != TipoNodo.INICIALIZADOR && arbol.tipo(valor) != TipoNodo.BLOQUE) {
+                    verificarAsignacion(nombre, arbol.valor(valor));
+                } else if (tablaSimbolos.exists(nombre)) {
+                    verificarAsignacionArregloCompleto(nombre, valoresInicializador(arbol, valor));
+                } else {
+                    diagnosticos.println("Error semántico: Variable '" + tablaSimbolos.nombre(nombre) + "' no declarada.");
+                }
+                break;
+            }
+            case ASIGNACION_ELEMENTO:
+                verificarAsignacionElementoArreglo(nombreNodo(arbol, nodo), arbol.valor(arbol.hijo(nodo, 0)), arbol.valor(arbol.hijo(nodo, 1)));
+                break;
+            case LLAMADA:
+                // Las llamadas sin argumentos no se verifican
+                if (arbol.cantidadHijos(nodo) > 0) {
+                    int nombre = nombreNodo(arbol, nodo);
+                    verificarLlamadaFuncion(nombre, tablaSimbolos.obtenerFirma(nombre), valoresHijos(arbol, nodo));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Obtiene el nombre que declara o usa un nodo, a partir de su token principal.
+     *
+     * @return El identificador del nombre.
+     */
+    private int nombreNodo(ArbolSintactico arbol, int nodo) {
+        return (Integer) arbol.valorToken(arbol.token(nodo));
+    }
+
+    /**
+     * Obtiene los valores de los elementos de un inicializador de arreglo.
+     *
+     * @return Los valores en orden, o {@code null} si el nodo es un bloque de sentencias.
+     */
+    private static List<Object> valoresInicializador(ArbolSintactico arbol, int nodo) {
+        return arbol.tipo(nodo) == TipoNodo.INICIALIZADOR ? valoresHijos(arbol, nodo) : null;
+    }
+
+    /**
+     * Obtiene los valores que el parser calculó para los hijos de un nodo.
+     */
+    private static List<Object> valoresHijos(ArbolSintactico arbol, int nodo) {
+        List<Object> valores = new ArrayList<>(arbol.cantidadHijos(nodo));
+        for (int i = 0; i < arbol.cantidadHijos(nodo); i++) {
+            valores.add(arbol.valor(arbol.hijo(nodo, i)));
+        }
+        return valores;
+    }
+
+    /**
+     * Obtiene el tipo de un valor producido por una expresión.
+     *
+     * @param valor El valor de la expresión.
+     */
+    public TipoDatos obtenerTipoValor(Object valor) {
+        if (valor instanceof TipoDatos) {
+            return (TipoDatos) valor;
+        }
+
+        if (valor instanceof Integer) {
+            return TipoDatos.INTEGER;
+        } else if (valor instanceof Float) {
+            return TipoDatos.FLOAT;
+        } else if (valor instanceof Boolean) {
+            return TipoDatos.BOOL;
+        } else if (valor instanceof CharSequence) {
+            return TipoDatos.STRING;
+        } else if (valor instanceof Character) {
+            return TipoDatos.CHAR;
+        } else {
+            diagnosticos.println("Error semántico: Tipo de dato no reconocido en la expresión.");
+        }
+        return null;
+
+    }
+
+    /**
+    * Verifica las asignaciones en el código.
+    *
+    * @param nombre El identificador del nombre de la variable.
+    * @param valor El valor de la expresión asignada.
+    */
+    private void verificarAsignacion(int nombre, Object valor) {
+
+            int ambitoActual = tablaSimbolos.obtenerAmbitoActual();
+
+            int filaVariable = tablaSimbolos.filaEnAmbito(ambitoActual, nombre);
+
+            if (filaVariable == -1) {
+                if (tablaSimbolos.exists(nombre)) {
+                    diagnosticos.println("Error semántico: No se puede asignar un valor a la variable '" + tablaSimbolos.nombre(nombre) + "' desde un ámbito diferente.");
+                } else {
+                    diagnosticos.println("Error semántico: La variable '" + tablaSimbolos.nombre(nombre) + "' no está declarada.");
+                }
+                return;
+            }
+
+            if (valor instanceof List) {
+                verificarAsignacionArregloCompleto(nombre, (List<?>) valor);
+                return;
+            }
+
+            TipoDatos tipoVariable = tablaSimbolos.getAlmacen().tipo(filaVariable);
+            TipoDatos tipoValor = obtenerTipoValor(valor);
+
+            if (!esTipoCompatible(tipoVariable, tipoValor)) {
+                 diagnosticos.println("Error semántico: Tipo incompatible en la asignación a la variable '" + tablaSimbolos.nombre(nombre) + "'.");
+            }
+    }
+
+    /**
+     * Verifica la llamada a una función en el código.
+     *
+     * @param nombreFuncion El identificador del nombre de la funcion.
+     * @param firma La firma de la función, o {@code null} si aún no está declarada.
+     * @param argumentosFuncion Los valores de los argumentos enviados en la llamada.
+     */
+    private void verificarLlamadaFuncion(int nombreFuncion, Funciones.FirmaFuncion firma, List<Object> argumentosFuncion) {
+        // Una función sin firma registrada se trata como una función sin parámetros
+        int aridad = firma != null ? firma.parametros().length : 0;
+
+        // Verificar que el número de parámetros y argumentos coincida
+        if (argumentosFuncion.size() != aridad) {
+            diagnosticos.println("Error semántico: La función '" + tablaSimbolos.nombre(nombreFuncion) + "' debe recibir " + aridad +
+                    " argumentos, pero se le están enviando " + argumentosFuncion.size() + ".");
+            return;
+        }
+
+        // Verificar la compatibilidad de tipos entre parámetros y argumentos
+        for (int i = 0; i < aridad; i++) {
+            TipoDatos tipoParametro = firma.parametros()[i];
+            TipoDatos tipoArgumento = obtenerTipoValor(argumentosFuncion.get(i));
+
+            if (!tipoParametro.equals(tipoArgumento)) {
+                diagnosticos.println("Error semántico: La función '" + tablaSimbolos.nombre(nombreFuncion) + "' espera un parámetro de tipo " +
+                        tipoParametro + " en la posición " + (i + 1) + ", pero se proporcionó un argumento de tipo " +
+                        tipoArgumento + ".");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Verifica la asignación a un elemento específico del arreglo.
+     *
+     * @param nombreArreglo  El identificador del nombre del arreglo.
+     * @param indice         El valor del índice del arreglo.
+     * @param valor          El valor a asignar.
+     */
+    private void verificarAsignacionElementoArreglo(int nombreArreglo, Object indice, Object valor) {
+        // Obtener el ámbito actual
+        int ambitoActual = tablaSimbolos.obtenerAmbitoActual();
+
+        // Obtener el símbolo del arreglo dentro del ámbito actual
+        int filaArreglo = tablaSimbolos.filaEnAmbito(ambitoActual, nombreArreglo);
+
+        if (filaArreglo == -1) {
+            // Verificar que la asignación ocurra dentro del mismo ámbito
+            if (tablaSimbolos.exists(nombreArreglo)) {
+                diagnosticos.println("Error semántico: No se puede modificar el arreglo '" + tablaSimbolos.nombre(nombreArreglo) + "' desde un ámbito diferente.");
+            } else {
+                diagnosticos.println("Error semántico: El arreglo '" + tablaSimbolos.nombre(nombreArreglo) + "' no está declarado.");
+            }
+            return;
+        }
+
+        // Verificar que el índice sea un entero
+        if (!(indice instanceof Integer)) {
+            diagnosticos.println("Error semántico: El índice del arreglo debe ser un entero.");
+            return;
+        }
+        int idx = (Integer) indice;
+
+        // Verificar que el índice esté dentro de los límites del arreglo
+        if (idx < 0 || idx >= tablaSimbolos.getAlmacen().arraySize(filaArreglo)) {
+            diagnosticos.println("Error semántico: Índice fuera de los límites para el arreglo '" + tablaSimbolos.nombre(nombreArreglo) + "'.");
+            return;
+        }
+
+        // Obtener el tipo del valor a asignar
+        TipoDatos tipoValor = obtenerTipoValor(valor);
+
+        // Verificar compatibilidad de tipos
+        if (!esTipoCompatible(tablaSimbolos.getAlmacen().tipo(filaArreglo), tipoValor)) {
+            diagnosticos.println("Error semántico: Tipo incompatible en la asignación al arreglo '" + tablaSimbolos.nombre(nombreArreglo) + "'.");
+        }
+    }
+
+    /**
+     * Verifica la asignación de un arreglo completo.
+     *
+     * @param nombreArreglo El identificador del nombre del arreglo destino, ya declarado.
+     * @param valores       Los valores a asignar, o {@code null} si no se asigna una lista.
+     */
+    private void verificarAsignacionArregloCompleto(int nombreArreglo, List<?> valores) {
+
+        // Verificar que el valor sea una lista de valores
+        if (valores == null) {
+            diagnosticos.println("Error semántico: Se esperaba una lista de valores para la asignación del arreglo.");
+            return;
+        }
+
+        // Verificar que el tamaño de la lista coincida con el tamaño del arreglo
+        if (valores.size() != tablaSimbolos.getAlmacen().arraySize(tablaSimbolos.filaPorNombre(nombreArreglo))) {
+            diagnosticos.println("Error semántico: Tipo incompatible en la asignación al arreglo '" + tablaSimbolos.nombre(nombreArreglo) + "'.");
+        }
+
+        // Verificar que todos los valores de la lista sean compatibles con el tipo del arreglo
+        TipoDatos tipoArreglo = tablaSimbolos.obtenerTipo(nombreArreglo);
+
+        for (Object valorElemento : valores) {
+            TipoDatos tipoElemento = obtenerTipoValor(valorElemento);
+
+            if (!esTipoCompatible(tipoArreglo, tipoElemento)) {
+                diagnosticos.println("Error semántico: Tipo incompatible en la asignación al arreglo '" + tablaSimbolos.nombre(nombreArreglo) + "'.");
+            }
+        }
+    }
+
     /**
      * Verifica la validez de las sentencias de retorno en las funciones definidas en la tabla de símbolos.
      *
      */
     public void verificarReturns() {
-        Simbolo funcion;
-        Simbolo simbolo;
+        AlmacenSimbolos filas = tablaSimbolos.getAlmacen();
+        int funcion;
         boolean hasReturns;
 
         // Recorremos la tabla de símbolos para buscar funciones
-        for (int i = 0; i < tablaSimbolos.getEntries().size(); i++) {
-            simbolo = tablaSimbolos.getEntries().get(i);
+        for (int i = 0; i < filas.size(); i++) {
 
             // Si encontramos una función, verificamos sus returns
-            if (simbolo.getTipoToken().equals("FUNCTION")) {
-                funcion = simbolo;
+            if (filas.tipoToken(i) == TipoSimbolo.FUNCTION) {
+                funcion = i;
+                TipoDatos tipoFuncion = filas.tipo(funcion);
                 hasReturns = false;
 
                 // Recorremos la tabla de símbolos en reversa para buscar returns dentro del mismo ámbito
-                for (int x = i - 1; i < tablaSimbolos.getEntries().size(); x--) {
-                    simbolo = tablaSimbolos.getEntries().get(x);
+                for (int x = i - 1; i < filas.size(); x--) {
 
                     // Si encontramos un return, verificamos su validez
-                    if (simbolo.getTipoToken().equals("RETURN")) {
+                    if (filas.tipoToken(x) == TipoSimbolo.RETURN) {
                         hasReturns = true;
 
                         // Verificamos que el return tenga el mismo tipo que la función y esté en el mismo ámbito
-                        if (!(simbolo.getAmbito().equals(funcion.getAmbito())) && !(simbolo.getTipo().equals(funcion.getTipo())) && !(funcion.getTipo().equals("UNDEFINED"))) {
-                            System.err.println("Error semántico: la funcion: " + funcion.getNombre() + " de tipo: " + funcion.getTipo() + " no puede devolver un parametro de tipo: " + simbolo.getTipo());
+                        if (filas.ambito(x) != filas.ambito(funcion) && filas.tipo(x) != tipoFuncion && tipoFuncion != TipoDatos.UNDEFINED) {
+                            diagnosticos.println("Error semántico: la funcion: " + tablaSimbolos.nombre(filas.nombre(funcion)) + " de tipo: " + tipoFuncion + " no puede devolver un parametro de tipo: " + filas.tipo(x));
                             break;
                         }
                         // Si la función tiene tipo VOID pero devuelve algo, es un error
-                        else if (simbolo.getTipo().equals("VOID")) {
-                            System.err.println("Error semántico: la funcion: " + funcion.getNombre() + " debe devolver un parametro de tipo: " + funcion.getTipo());
+                        else if (filas.tipo(x) == TipoDatos.VOID) {
+                            diagnosticos.println("Error semántico: la funcion: " + tablaSimbolos.nombre(filas.nombre(funcion)) + " debe devolver un parametro de tipo: " + tipoFuncion);
                             break;
                         }
                         // Si la función es de tipo UNDEFINED pero tiene return, es un error
-                        else if (funcion.getTipo().equals("UNDEFINED")) {
-                            System.err.println("Error semántico: la funcion: " + funcion.getNombre() + " no debe devolver ningun parametro");
+                        else if (tipoFuncion == TipoDatos.UNDEFINED) {
+                            diagnosticos.println("Error semántico: la funcion: " + tablaSimbolos.nombre(filas.nombre(funcion)) + " no debe devolver ningun parametro");
                             break;
                         }
 
                     }
                     // Si llegamos al inicio o encontramos otra función, verificamos si la función anterior tenía returns
-                    else if (x == 0 || simbolo.getTipoToken().equals("FUNCTION")) {
-                        if (!(funcion.getTipo().equals("UNDEFINED")) && !hasReturns) {
-                            System.err.println("Error semántico: la funcion: " + funcion.getNombre() + " debe devolver un parametro de tipo: " + funcion.getTipo());
+                    else if (x == 0 || filas.tipoToken(x) == TipoSimbolo.FUNCTION) {
+                        if (tipoFuncion != TipoDatos.UNDEFINED && !hasReturns) {
+                            diagnosticos.println("Error semántico: la funcion: " + tablaSimbolos.nombre(filas.nombre(funcion)) + " debe devolver un parametro de tipo: " + tipoFuncion);
                         }
                         break;
                     }
@@ -87,41 +347,57 @@ public class Semantico {
      *
      */
     public void verificarBreaks() {
-        Simbolo simbolo;
-        Boolean breakDetected;
+        AlmacenSimbolos filas = tablaSimbolos.getAlmacen();
+        int fila;
 
         // Recorrer la tabla de símbolos
-        for (int i = 0; i < tablaSimbolos.getEntries().size(); i++) {
-            simbolo = tablaSimbolos.getEntries().get(i);
+        for (int i = 0; i < filas.size(); i++) {
+            fila = i;
 
             // Si el símbolo es un IF o SWITCH, buscar breaks dentro de su alcance
-            if (simbolo.getTipoToken().equals("IF") || simbolo.getTipoToken().equals("SWITCH")) {
+            if (filas.tipoToken(fila) == TipoSimbolo.IF || filas.tipoToken(fila) == TipoSimbolo.SWITCH) {
 
                 // Recorrer los símbolos dentro del alcance del IF o SWITCH
-                for (int x = i + 1; x < tablaSimbolos.getEntries().size(); x++) {
-                    simbolo = tablaSimbolos.getEntries().get(x);
+                for (int x = i + 1; x < filas.size(); x++) {
+                    fila = x;
 
                     // Si se encuentra un break fuera de un bucle válido, imprimir error
-                    if (simbolo.getTipoToken().equals("BREAK") && simbolo.getScope() < 3) {
-                        System.err.println("Error semántico: break fuera de bucle");
+                    if (filas.tipoToken(fila) == TipoSimbolo.BREAK && filas.scope(fila) < 3) {
+                        diagnosticos.println("Error semántico: break fuera de bucle");
                     }
                     // Si se encuentra un bloque de control o función, salir del bucle interno
-                    else if (simbolo.getTipoToken().equals("CYCLE") || simbolo.getTipoToken().equals("IF") ||
-                            simbolo.getTipoToken().equals("WHILE") || simbolo.getTipoToken().equals("FOR") ||
-                            simbolo.getTipoToken().equals("FUNCTION") || simbolo.getTipoToken().equals("SWITCH")
-                            || simbolo.getTipoToken().equals("BREAK")) {
+                    else if (delimitaBusquedaBreak(filas.tipoToken(fila))) {
                         break;
                     }
                 }
             }
 
             // Verificar breaks en el alcance global (scope == 1)
-            if (simbolo.getTipoToken().equals("BREAK") && simbolo.getScope() == 1) {
-                System.err.println("Error semántico: break fuera de bucle");
+            if (filas.tipoToken(fila) == TipoSimbolo.BREAK && filas.scope(fila) == 1) {
+                diagnosticos.println("Error semántico: break fuera de bucle");
             }
         }
     }
 
+    /**
+     * Indica si un símbolo termina la búsqueda de breaks que inició un IF o SWITCH.
+     *
+     * @param tipoToken La categoría del símbolo.
+     * @return True si es un bloque de control, una función o un break.
+     */
+    private static boolean delimitaBusquedaBreak(TipoSimbolo tipoToken) {
+        switch (tipoToken) {
+            case CYCLE:
+            case IF:
+            case SWITCH:
+            case FUNCTION:
+            case BREAK:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Comprueba si dos tipos de datos son compatibles.
      *
@@ -0,0 +1,323 @@
+package Clases;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Formato binario de la tabla de símbolos.
+ * <p>
+ * El archivo tiene tres secciones: un encabezado, las filas de ancho fijo y un pool de cadenas.
+ * Todos los enteros se escriben en little-endian.
+ * </p>
+ * <pre>
+ * Encabezado (24 bytes): magia "TSIM", versión, cantidad de filas, cantidad de cadenas,
+ *                        posición de las filas, posición del pool de cadenas.
+ * Fila (24 bytes):       nombre, ámbito (índices en el pool), tipo, tipo token (ordinales en byte,
+ *                        -1 si no hay), 2 bytes de relleno, tamaño, scope, valor (índice en el pool
+ *                        o -1 si es null).
+ * Pool de cadenas:       cantidad + 1 posiciones relativas y luego los bytes UTF-8 de cada cadena.
+ * </pre>
+ * <p>
+ * Las primeras cadenas del pool son los identificadores en el orden de {@link Identificadores},
+ * así el nombre y el ámbito de una fila se escriben sin búsquedas. Una instancia de esta clase lee
+ * un archivo ya escrito directamente desde un {@link MappedByteBuffer}, sin copiarlo a memoria.
+ * </p>
+ */
+public final class TablaBinaria {
+
+    private static final int MAGIA = 0x4D495354; // "TSIM" en little-endian
+    private static final int VERSION = 1;
+    private static final int TAMANO_ENCABEZADO = 24;
+    private static final int TAMANO_FILA = 24;
+    private static final int TAMANO_BUFFER = 1 << 16;
+
+    private static final TipoDatos[] TIPOS = TipoDatos.values();
+    private static final TipoSimbolo[] TIPOS_TOKEN = TipoSimbolo.values();
+
+    private static final String SEPARADOR = "-------------------------------------------------------------------------------------------------------------------------------------------------------------";
+
+    private final MappedByteBuffer buffer;
+    private final int filas;
+    private final int cadenas;
+    private final int inicioFilas;
+    private final int inicioCadenas;
+    private final int inicioTexto;
+
+    private TablaBinaria(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getInt(0) != MAGIA || buffer.getInt(4) != VERSION) {
+            throw new IOException("El archivo no contiene una tabla de símbolos binaria válida.");
+        }
+        filas = buffer.getInt(8);
+        cadenas = buffer.getInt(12);
+        inicioFilas = buffer.getInt(16);
+        inicioCadenas = buffer.getInt(20);
+        inicioTexto = inicioCadenas + (cadenas + 1) * 4;
+    }
+
+    /**
+     * Escribe las filas de la tabla de símbolos en formato binario.
+     *
+     * @param almacen         El almacenamiento de la tabla de símbolos.
+     * @param identificadores La tabla de identificadores que resuelve los nombres.
+     * @param archivo         La ruta del archivo a escribir; se sobrescribe si existe.
+     * @throws IOException Si ocurre un error al escribir el archivo.
+     */
+    public static void escribir(AlmacenSimbolos almacen, Identificadores identificadores, Path archivo) throws IOException {
+        int filas = almacen.size();
+
+        // Pool de cadenas: primero los identificadores, luego los textos distintos de los valores
+        ArrayList<byte[]> pool = new ArrayList<>(identificadores.cantidad());
+        for (int id = 0; id < identificadores.cantidad(); id++) {
+            pool.add(identificadores.nombre(id).getBytes(StandardCharsets.UTF_8));
+        }
+        HashMap<String, Integer> indiceValores = new HashMap<>();
+        int[] valores = new int[filas];
+        for (int fila = 0; fila < filas; fila++) {
+            Object valor = almacen.valor(fila);
+            if (valor == null) {
+                valores[fila] = -1;
+                continue;
+            }
+            String texto = String.valueOf(valor);
+            Integer indice = indiceValores.get(texto);
+            if (indice == null) {
+                indice = pool.size();
+                indiceValores.put(texto, indice);
+                pool.add(texto.getBytes(StandardCharsets.UTF_8));
+            }
+            valores[fila] = indice;
+        }
+
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer salida = ByteBuffer.allocateDirect(TAMANO_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+
+            salida.putInt(MAGIA).putInt(VERSION).putInt(filas).putInt(pool.size())
+                    .putInt(TAMANO_ENCABEZADO).putInt(TAMANO_ENCABEZADO + filas * TAMANO_FILA);
+
+            for (int fila = 0; fila < filas; fila++) {
+                asegurarEspacio(canal, salida, TAMANO_FILA);
+                TipoDatos tipo = almacen.tipo(fila);
+                TipoSimbolo tipoToken = almacen.tipoToken(fila);
+                salida.putInt(almacen.nombre(fila))
+                        .putInt(almacen.ambito(fila))
+                        .put((byte) (tipo != null ? tipo.ordinal() : -1))
+                        .put((byte) (tipoToken != null ? tipoToken.ordinal() : -1))
+                        .putShort((short) 0)
+                        .putInt(almacen.arraySize(fila))
+                        .putInt(almacen.scope(fila))
+                        .putInt(valores[fila]);
+            }
+
+            int posicion = 0;
+            for (int i = 0; i <= pool.size(); i++) {
+                asegurarEspacio(canal, salida, 4);
+                salida.putInt(posicion);
+                if (i < pool.size()) {
+                    posicion += pool.get(i).length;
+                }
+            }
+            for (byte[] cadena : pool) {
+                for (int desde = 0; desde < cadena.length; ) {
+                    asegurarEspacio(canal, salida, 1);
+                    int cantidad = Math.min(salida.remaining(), cadena.length - desde);
+                    salida.put(cadena, desde, cantidad);
+                    desde += cantidad;
+                }
+            }
+            vaciar(canal, salida);
+        }
+    }
+
+    private static void asegurarEspacio(FileChannel canal, ByteBuffer salida, int bytes) throws IOException {
+        if (salida.remaining() < bytes) {
+            vaciar(canal, salida);
+        }
+    }
+
+    private static void vaciar(FileChannel canal, ByteBuffer salida) throws IOException {
+        salida.flip();
+        while (salida.hasRemaining()) {
+            canal.write(salida);
+        }
+        salida.clear();
+    }
+
+    /**
+     * Abre una tabla de símbolos binaria mapeándola en memoria.
+     *
+     * @param archivo La ruta del archivo escrito con {@link #escribir}.
+     * @return La tabla leída desde el archivo mapeado.
+     * @throws IOException Si el archivo no existe o no tiene el formato esperado.
+     */
+    public static TablaBinaria abrir(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            return new TablaBinaria(canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size()));
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de filas de la tabla.
+     * @return Cantidad de filas.
+     */
+    public int filas() {
+        return filas;
+    }
+
+    /**
+     * Obtiene el nombre de una fila.
+     * @param fila La fila del símbolo.
+     * @return Nombre del símbolo.
+     */
+    public String nombre(int fila) {
+        return cadenaOVacia(buffer.getInt(posicionFila(fila)));
+    }
+
+    /**
+     * Obtiene el ámbito de una fila.
+     * @param fila La fila del símbolo.
+     * @return Nombre del ámbito.
+     */
+    public String ambito(int fila) {
+        return cadenaOVacia(buffer.getInt(posicionFila(fila) + 4));
+    }
+
+    /**
+     * Obtiene el tipo de dato de una fila.
+     * @param fila La fila del símbolo.
+     * @return Tipo de dato, o {@code null} si no tiene.
+     */
+    public TipoDatos tipo(int fila) {
+        byte ordinal = buffer.get(posicionFila(fila) + 8);
+        return ordinal >= 0 ? TIPOS[ordinal] : null;
+    }
+
+    /**
+     * Obtiene la categoría de una fila.
+     * @param fila La fila del símbolo.
+     * @return Categoría del símbolo, o {@code null} si no tiene.
+     */
+    public TipoSimbolo tipoToken(int fila) {
+        byte ordinal = buffer.get(posicionFila(fila) + 9);
+        return ordinal >= 0 ? TIPOS_TOKEN[ordinal] : null;
+    }
+
+    /**
+     * Obtiene el tamaño del arreglo de una fila.
+     * @param fila La fila del símbolo.
+     * @return Tamaño del arreglo, o -1 si no es un arreglo.
+     */
+    public int arraySize(int fila) {
+        return buffer.getInt(posicionFila(fila) + 12);
+    }
+
+    /**
+     * Obtiene el nivel de anidamiento de una fila.
+     * @param fila La fila del símbolo.
+     * @return Nivel de anidamiento.
+     */
+    public int scope(int fila) {
+        return buffer.getInt(posicionFila(fila) + 16);
+    }
+
+    /**
+     * Obtiene el texto del valor de una fila.
+     * @param fila La fila del símbolo.
+     * @return Texto del valor, o {@code null} si el símbolo no tiene valor.
+     */
+    public String valor(int fila) {
+        int indice = buffer.getInt(posicionFila(fila) + 20);
+        return indice != -1 ? cadena(indice) : null;
+    }
+
+    /**
+     * Obtiene una cadena del pool.
+     * @param indice El índice de la cadena.
+     * @return La cadena decodificada desde el archivo.
+     */
+    public String cadena(int indice) {
+        int desde = buffer.getInt(inicioCadenas + indice * 4);
+        int hasta = buffer.getInt(inicioCadenas + (indice + 1) * 4);
+        byte[] bytes = new byte[hasta - desde];
+        buffer.get(inicioTexto + desde, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String cadenaOVacia(int indice) {
+        return indice != -1 ? cadena(indice) : "";
+    }
+
+    private int posicionFila(int fila) {
+        if (fila < 0 || fila >= filas) {
+            throw new IndexOutOfBoundsException("Fila " + fila + " fuera de la tabla de tamaño " + filas);
+        }
+        return inicioFilas + fila * TAMANO_FILA;
+    }
+
+    /**
+     * Escribe la tabla en formato de texto tabular, con las mismas columnas que
+     * "salida_simbolos.txt": nombre, tipo de token, tipo, valor, tamaño, scope y ámbito.
+     *
+     * @param archivo La ruta del archivo de texto; se sobrescribe si existe.
+     * @throws IOException Si ocurre un error al escribir el archivo.
+     */
+    public void renderizarTexto(Path archivo) throws IOException {
+        String finLinea = System.lineSeparator();
+        StringBuilder linea = new StringBuilder(200);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(archivo, StandardCharsets.UTF_8)) {
+            writer.write(SEPARADOR + "\n");
+            escribirLinea(writer, linea, finLinea, "Nombre", "Tipo token", "Tipo", "Valor", "Tamaño", "Scope", "Ámbito");
+            writer.write(SEPARADOR + "\n");
+
+            for (int fila = 0; fila < filas; fila++) {
+                escribirLinea(writer, linea, finLinea,
+                        nombre(fila),
+                        String.valueOf(tipoToken(fila)),
+                        String.valueOf(tipo(fila)),
+                        String.valueOf(valor(fila)),
+                        arraySize(fila) != -1 ? String.valueOf(arraySize(fila)) : "N/A", // Si no es un array, mostrar "N/A"
+                        String.valueOf(scope(fila)),
+                        ambito(fila));
+            }
+
+            writer.write(SEPARADOR + "\n");
+        }
+    }
+
+    private static void escribirLinea(BufferedWriter writer, StringBuilder linea, String finLinea, String nombre, String tipoToken,
+                                      String tipo, String valor, String tamano, String scope, String ambito) throws IOException {
+        linea.setLength(0);
+        linea.append("| ");
+        columna(linea, nombre, 15);
+        columna(linea, tipoToken, 25);
+        columna(linea, tipo, 25);
+        columna(linea, valor, 40);
+        columna(linea, tamano, 10);
+        columna(linea, scope, 10);
+        columna(linea, ambito, 10);
+        linea.setLength(linea.length() - 1);
+        linea.append(finLinea);
+        writer.append(linea);
+    }
+
+    // Equivalente a "%-<ancho>s | "
+    private static void columna(StringBuilder linea, String texto, int ancho) {
+        linea.append(texto);
+        for (int i = texto.length(); i < ancho; i++) {
+            linea.append(' ');
+        }
+        linea.append(" | ");
+    }
+}
@@ -1,10 +1,15 @@
 package Clases;
 
-import java.io.BufferedWriter;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
 import java_cup.runtime.Symbol;
 
 /**
@@ -13,31 +18,203 @@ import java_cup.runtime.Symbol;
 @SuppressWarnings("LanguageDetectionInspection")
 public class TablaSimbolos {
 
-    private ArrayList<Simbolo> tablaSimbolos;
-    private int nivelScopeActual;
+    private AlmacenSimbolos tablaSimbolos;
+    private Identificadores identificadores;
+    private IndiceAmbito indicePorAmbito;
+    private Funciones.FirmaFuncion[] firmas;
+    private int[] nombresFirmas;
+    private int cantidadFirmas;
+    private IntFunction<Funciones.FirmaFuncion> firmasAnteriores;
+    private ArrayDeque<Scope> pilaScopes;
+    private int ambitoGlobal;
+    private volatile InstantaneaTabla instantanea;
+    private volatile boolean instantaneasActivas;
+    private int[] consultasPorNombre;
+    private int cantidadConsultas;
+    private PrintStream diagnosticos = System.err;
+
+    /**
+     * Elemento de la pila de scopes: el ámbito (función) al que pertenece y su nivel de anidamiento.
+     */
+    private static final class Scope {
+        private final int ambito;
+        private final int nivel;
+
+        private Scope(int ambito, int nivel) {
+            this.ambito = ambito;
+            this.nivel = nivel;
+        }
+    }
+
+    /**
+     * Ámbito reservado del índice para la primera fila de cada nombre, sin importar su ámbito.
+     */
+    private static final int CUALQUIER_AMBITO = -1;
+
+    /**
+     * Ámbito reservado del índice para la posición de la firma de cada función.
+     */
+    private static final int FIRMA = -2;
+
+    /**
+     * Índice de filas por (ámbito, nombre) con direccionamiento abierto.
+     * La clave combina ambos identificadores en un {@code long}, así la búsqueda no crea objetos.
+     * Su tamaño depende solo de las filas de la tabla y no del total de identificadores de la
+     * compilación, porque las tablas de las partes analizadas por separado son muchas y pequeñas.
+     */
+    private static final class IndiceAmbito {
+        private long[] claves;
+        private int[] valores;
+        private int cantidad;
+
+        private IndiceAmbito() {
+            claves = new long[64];
+            valores = new int[64];
+            Arrays.fill(valores, -1);
+            cantidad = 0;
+        }
+
+        private static long clave(int ambito, int nombre) {
+            return ((long) ambito << 32) | (nombre & 0xFFFFFFFFL);
+        }
+
+        private static int posicion(long clave, int mascara) {
+            return (int) ((clave * 0x9E3779B97F4A7C15L) >>> 32) & mascara;
+        }
+
+        private int get(int ambito, int nombre) {
+            long clave = clave(ambito, nombre);
+            int mascara = valores.length - 1;
+            for (int i = posicion(clave, mascara); valores[i] != -1; i = (i + 1) & mascara) {
+                if (claves[i] == clave) {
+                    return valores[i];
+                }
+            }
+            return -1;
+        }
+
+        private void putIfAbsent(int ambito, int nombre, int fila) {
+            long clave = clave(ambito, nombre);
+            int mascara = valores.length - 1;
+            int i = posicion(clave, mascara);
+            while (valores[i] != -1) {
+                if (claves[i] == clave) {
+                    return;
+                }
+                i = (i + 1) & mascara;
+            }
+            claves[i] = clave;
+            valores[i] = fila;
+
+            if (++cantidad * 2 > valores.length) {
+                long[] clavesAnteriores = claves;
+                int[] valoresAnteriores = valores;
+                claves = new long[clavesAnteriores.length * 2];
+                valores = new int[valoresAnteriores.length * 2];
+                Arrays.fill(valores, -1);
+                mascara = valores.length - 1;
+                for (int x = 0; x < valoresAnteriores.length; x++) {
+                    if (valoresAnteriores[x] != -1) {
+                        int j = posicion(clavesAnteriores[x], mascara);
+                        while (valores[j] != -1) {
+                            j = (j + 1) & mascara;
+                        }
+                        claves[j] = clavesAnteriores[x];
+                        valores[j] = valoresAnteriores[x];
+                    }
+                }
+            }
+        }
+
+        private void clear() {
+            Arrays.fill(valores, -1);
+            cantidad = 0;
+        }
+    }
 
     public TablaSimbolos() {
-        tablaSimbolos = new ArrayList<>();
-        nivelScopeActual = 0;
+        this(new Identificadores());
+    }
+
+    /**
+     * Crea una tabla de símbolos que comparte la tabla de identificadores de la compilación.
+     *
+     * @param identificadores La tabla de identificadores que llena el lexer.
+     */
+    public TablaSimbolos(Identificadores identificadores) {
+        this(identificadores, new AlmacenLista(identificadores));
+    }
+
+    /**
+     * Crea una tabla de símbolos con un almacenamiento de filas específico,
+     * por ejemplo {@link AlmacenColumnar} para entradas con cientos de miles de símbolos.
+     *
+     * @param identificadores La tabla de identificadores que llena el lexer.
+     * @param almacen         El almacenamiento de las filas de la tabla.
+     */
+    public TablaSimbolos(Identificadores identificadores, AlmacenSimbolos almacen) {
+        this.identificadores = identificadores;
+        tablaSimbolos = almacen;
+        instantanea = InstantaneaTabla.VACIA;
+        indicePorAmbito = new IndiceAmbito();
+        firmas = new Funciones.FirmaFuncion[8];
+        nombresFirmas = new int[8];
+        pilaScopes = new ArrayDeque<>();
+        ambitoGlobal = identificadores.internar("global");
+        pilaScopes.push(new Scope(ambitoGlobal, 0));
+    }
+
+    /**
+     * Obtiene la tabla de identificadores asociada.
+     *
+     * @return La tabla de identificadores.
+     */
+    public Identificadores getIdentificadores() {
+        return identificadores;
+    }
+
+    /**
+     * Interna un nombre generado fuera del lexer (por ejemplo "return1" o "_verano_").
+     *
+     * @param nombre El nombre a internar.
+     * @return El identificador entero del nombre.
+     */
+    public int internar(String nombre) {
+        return identificadores.internar(nombre);
+    }
+
+    /**
+     * Obtiene el nombre asociado a un identificador entero.
+     *
+     * @param id El identificador entero.
+     * @return El nombre original.
+     */
+    public String nombre(int id) {
+        return identificadores.nombre(id);
     }
 
     /**
      * Agrega un token a la tabla de símbolos.
      *
-     * @param type      El token identificado.
+     * @param type      El tipo de dato del símbolo.
+     * @param tokenType La categoría del símbolo.
      * @param tokenName El nombre del token.
      * @param valor     El tipo asociado (si es aplicable, ej. variables o funciones).
      */
-    public void addToSymbolTable(String type, String tokenType, String tokenName, Symbol valor, int tamanoArreglo) {
+    public void addToSymbolTable(TipoDatos type, TipoSimbolo tokenType, int tokenName, Symbol valor, int tamanoArreglo) {
         Object valorObject = (valor != null && valor.value != null) ? valor.value : "null";
-        String ambitoActual = tokenType.equals("FUNCTION") ? "global" : obtenerAmbitoActual();
 
-        if (tokenType.equals("OPERADOR")) {
-            return;
+        // Los arreglos de tipos primitivos se guardan en un arreglo primitivo en lugar de la lista
+        if (tokenType == TipoSimbolo.ARRAY && valorObject instanceof List) {
+            ValorArreglo arreglo = ValorArreglo.crear(type, (List<?>) valorObject);
+            if (arreglo != null) {
+                valorObject = arreglo;
+            }
         }
+        int ambitoActual = tokenType == TipoSimbolo.FUNCTION ? ambitoGlobal : obtenerAmbitoActual();
 
-        if (tokenType.equals("FUNCTION") && exists(tokenName)) {
-            System.err.println("Error semántico: La función '" + tokenName + "' ya está declarada");
+        if (tokenType == TipoSimbolo.FUNCTION && exists(tokenName)) {
+            diagnosticos.println("Error semántico: La función '" + nombre(tokenName) + "' ya está declarada");
             return;
         }
 
@@ -45,80 +222,166 @@ public class TablaSimbolos {
             return;
         }
 
-        Simbolo simbolo = new Simbolo(type, tokenType, tokenName, valorObject, tamanoArreglo, nivelScopeActual, ambitoActual);
-        tablaSimbolos.add(simbolo);
+        int fila = tablaSimbolos.agregar(type, tokenType, tokenName, valorObject, tamanoArreglo, pilaScopes.peek().nivel, ambitoActual);
+        indexar(fila, tokenName, ambitoActual);
+    }
+
+    /**
+     * Registra una fila en los índices por nombre y por (ámbito, nombre).
+     * Si ya existe una entrada con la misma clave se conserva la primera,
+     * igual que el recorrido en orden de inserción de la lista.
+     *
+     * @param fila   La fila recién agregada a la tabla.
+     * @param nombre El identificador del nombre del símbolo.
+     * @param ambito El identificador del ámbito del símbolo.
+     */
+    private void indexar(int fila, int nombre, int ambito) {
+        indicePorAmbito.putIfAbsent(CUALQUIER_AMBITO, nombre, fila);
+        indicePorAmbito.putIfAbsent(ambito, nombre, fila);
+    }
+
+    /**
+     * Obtiene la fila del primer símbolo declarado con el nombre dado, sin importar el ámbito.
+     *
+     * @param nombre El identificador del nombre.
+     * @return La fila encontrada o -1 si no existe.
+     */
+    public int filaPorNombre(int nombre) {
+        if (consultasPorNombre != null) {
+            anotarConsulta(nombre);
+        }
+        return indicePorAmbito.get(CUALQUIER_AMBITO, nombre);
+    }
+
+    /**
+     * Anota un nombre buscado sin importar el ámbito.
+     *
+     * @param nombre El identificador del nombre.
+     */
+    private void anotarConsulta(int nombre) {
+        if (cantidadConsultas == consultasPorNombre.length) {
+            consultasPorNombre = Arrays.copyOf(consultasPorNombre, cantidadConsultas * 2);
+        }
+        consultasPorNombre[cantidadConsultas++] = nombre;
+    }
+
+    /**
+     * Hace que la tabla anote los nombres que se buscan sin importar el ámbito. Sirve para
+     * analizar una parte del programa con una tabla propia: si alguno de esos nombres estaba
+     * declarado en las partes anteriores, la búsqueda pudo dar otro resultado que en la tabla
+     * completa.
+     */
+    public void anotarConsultasPorNombre() {
+        if (consultasPorNombre == null) {
+            consultasPorNombre = new int[16];
+        }
+    }
+
+    /**
+     * Obtiene los nombres buscados sin importar el ámbito desde {@link #anotarConsultasPorNombre()}.
+     *
+     * @return Los identificadores de los nombres, con repeticiones, en el orden de las búsquedas.
+     */
+    public int[] consultasPorNombre() {
+        return consultasPorNombre != null ? Arrays.copyOf(consultasPorNombre, cantidadConsultas) : new int[0];
+    }
+
+    /**
+     * Obtiene el primer símbolo declarado con el nombre dado, sin importar el ámbito.
+     *
+     * @param nombre El identificador del nombre.
+     * @return El símbolo encontrado o {@code null} si no existe.
+     */
+    private Simbolo buscarPorNombre(int nombre) {
+        int fila = filaPorNombre(nombre);
+        return fila != -1 ? tablaSimbolos.get(fila) : null;
+    }
+
+    /**
+     * Obtiene el primer símbolo declarado con el nombre dado dentro de un ámbito.
+     *
+     * @param ambito El ámbito donde buscar.
+     * @param nombre El nombre del símbolo.
+     * @return El símbolo encontrado o {@code null} si no existe.
+     */
+    private Simbolo buscarEnAmbito(int ambito, int nombre) {
+        int fila = filaEnAmbito(ambito, nombre);
+        return fila != -1 ? tablaSimbolos.get(fila) : null;
+    }
+
+    /**
+     * Obtiene la fila del primer símbolo declarado con el nombre dado dentro de un ámbito.
+     * Sus atributos se leen con los métodos de acceso de {@link #getAlmacen()}.
+     *
+     * @param ambito El ámbito donde buscar.
+     * @param nombre El identificador del nombre.
+     * @return La fila encontrada o -1 si no existe.
+     */
+    public int filaEnAmbito(int ambito, int nombre) {
+        return indicePorAmbito.get(ambito, nombre);
     }
 
     /**
      * Verifica las duplicaciones en el ambito al crear el simbolo a la tabla de simbolos.
      */
-    private boolean verificarDuplicadoEnAmbito(String ambitoActual, String tokenName) {
+    private boolean verificarDuplicadoEnAmbito(int ambitoActual, int tokenName) {
         if (existeEnAmbito(ambitoActual, tokenName)) {
-            System.err.println("Error semántico: La variable '" + tokenName + "' ya está declarada en el mismo ámbito");
+            diagnosticos.println("Error semántico: La variable '" + nombre(tokenName) + "' ya está declarada en el mismo ámbito");
             return true;
         }
         return false;
     }
 
     /**
-     * Asigna el ámbito a las variables basándose en la posición de las funciones.
-     * Recorre la tabla de símbolos y asigna el nombre de la función como ámbito
-     * a todas las variables que estén antes de la función. Se detiene si encuentra
-     * otra función o llega al final/inicio de la lista.
+     * Verifica si una variable con el mismo nombre ya está en el ámbito actual.
      */
-    public void asignarAmbito() {
-        String ambitoActual;
-        Simbolo simbolo;
+    public boolean existeEnAmbito(int ambito, int nombre) {
+        return indicePorAmbito.get(ambito, nombre) != -1;
+    }
 
-        for (int i = 0; i < tablaSimbolos.size(); i++) {
-            simbolo = tablaSimbolos.get(i);
-            if (simbolo.getTipoToken().equals("FUNCTION")) {
-                ambitoActual = simbolo.getNombre();
-                for (int x = i - 1; i < tablaSimbolos.size(); x--) {
-                    simbolo = tablaSimbolos.get(x);
-                    if (!(simbolo.getTipoToken().equals("FUNCTION")))  {
-                        simbolo.setAmbito(ambitoActual);
-                    }
-                    if (x == 0 || simbolo.getTipoToken().equals("FUNCTION")) {
-                        break;
-                    }
-                }
-            }
-        }
+    /**
+     * Obtiene el ámbito actual, es decir, la función cuyo cuerpo se está analizando.
+     */
+    public int obtenerAmbitoActual() {
+        return pilaScopes.peek().ambito;
+    }
+
+    public Simbolo obtenerSimbolo(int nombre) {
+        return buscarPorNombre(nombre);
     }
 
     /**
-     * Verifica si una variable con el mismo nombre ya está en el ámbito actual.
+     * Obtiene el primer símbolo declarado con el nombre dado dentro de un ámbito.
+     *
+     * @param ambito El ámbito donde buscar.
+     * @param nombre El nombre del símbolo.
+     * @return El símbolo encontrado o {@code null} si no existe en ese ámbito.
      */
-    public boolean existeEnAmbito(String ambito, String nombre) {
-        for (Simbolo simbolo : tablaSimbolos) {
-            if (simbolo.getNombre().equals(nombre) && simbolo.getAmbito().equals(ambito)) {
-                return true;
-            }
-        }
-        return false;
+    public Simbolo obtenerSimbolo(int ambito, int nombre) {
+        return buscarEnAmbito(ambito, nombre);
     }
 
     /**
-     * Obtiene el ámbito actual basado en la función en la que está la variable.
+     * Abre el ámbito de una función. Se invoca al reconocer el nombre en el encabezado,
+     * antes de los parámetros y del cuerpo, para que todo lo declarado dentro quede en su ámbito.
+     * La entrada FUNCTION se agrega recién al reducir la declaración completa, así que este
+     * ámbito pendiente es el que permite asignar el ámbito correcto al momento de la inserción.
+     *
+     * @param nombreFuncion El identificador del nombre de la función.
      */
-    public String obtenerAmbitoActual() {
-        for (int i = tablaSimbolos.size() - 1; i >= 0; i--) {
-            Simbolo simbolo = tablaSimbolos.get(i);
-            if (simbolo.getTipoToken().equals("FUNCTION")) {
-                return simbolo.getNombre();
-            }
-        }
-        return "global";
+    public void abrirFuncion(int nombreFuncion) {
+        publicarInstantanea();
+        pilaScopes.push(new Scope(nombreFuncion, pilaScopes.peek().nivel));
     }
 
-    public Simbolo obtenerSimbolo(String nombre) {
-        for (Simbolo simbolo : tablaSimbolos) {
-            if (simbolo.getNombre().equals(nombre)) {
-                return simbolo;
-            }
+    /**
+     * Cierra el ámbito de la función actual y regresa al ámbito global.
+     */
+    public void cerrarFuncion() {
+        if (pilaScopes.size() > 1) { // No cerrar el ámbito global
+            pilaScopes.pop();
         }
-        return null;
+        publicarInstantanea();
     }
 
 
@@ -128,7 +391,9 @@ public class TablaSimbolos {
      * @param tokenOpenBlock El token que representa la apertura del bloque (OPEN_BLOCK).
      */
     public void abrirScope(Symbol tokenOpenBlock) {
-        nivelScopeActual++;
+        publicarInstantanea();
+        Scope actual = pilaScopes.peek();
+        pilaScopes.push(new Scope(actual.ambito, actual.nivel + 1));
     }
 
     /**
@@ -137,11 +402,12 @@ public class TablaSimbolos {
      * @param tokenCloseBlock El token que representa el cierre del bloque (CLOSE_BLOCK).
      */
     public void cerrarScope(Symbol tokenCloseBlock) {
-        if (nivelScopeActual > 0) { // No cerrar el scope global
-            nivelScopeActual--;
+        if (pilaScopes.peek().nivel > 0) { // No cerrar el scope global
+            pilaScopes.pop();
         } else {
-            System.out.println("Error: intento de cerrar scope global");
+            diagnosticos.println("Error: intento de cerrar scope global");
         }
+        publicarInstantanea();
     }
 
     /**
@@ -150,16 +416,65 @@ public class TablaSimbolos {
      * @param nombre El nombre del símbolo a buscar.
      * @return True si existe, de lo contrario False.
      */
-    public boolean exists(String nombre) {
-        return tablaSimbolos.stream().anyMatch(s -> s.getNombre().equals(nombre));
+    public boolean exists(int nombre) {
+        return filaPorNombre(nombre) != -1;
     }
 
     /**
      * Devuelve todas las entradas de la tabla de símbolos.
+     * <p>
+     * Es una vista de solo lectura de la tabla viva, pensada para el hilo del parser. Los demás
+     * hilos deben usar {@link #getInstantanea()}.
+     * </p>
      *
      * @return Lista de símbolos en la tabla de símbolos.
      */
     public List<Simbolo> getEntries() {
+        return Collections.unmodifiableList(tablaSimbolos);
+    }
+
+    /**
+     * Activa la publicación de instantáneas para los lectores de {@link #getInstantanea()}.
+     * Puede llamarse desde cualquier hilo; la instantánea siguiente incluye todas las filas
+     * agregadas hasta ese momento.
+     */
+    public void activarInstantaneas() {
+        instantaneasActivas = true;
+    }
+
+    /**
+     * Publica una instantánea inmutable con todas las filas agregadas hasta ahora.
+     * Se invoca en los límites de scope y de función; solo la llama el hilo del parser.
+     * Si ningún lector activó las instantáneas no hace nada, porque cada instantánea copia
+     * las filas nuevas.
+     */
+    public void publicarInstantanea() {
+        if (instantaneasActivas) {
+            instantanea = instantanea.extender(tablaSimbolos, identificadores);
+        }
+    }
+
+    /**
+     * Devuelve la última instantánea publicada de la tabla de símbolos.
+     * <p>
+     * Puede llamarse desde cualquier hilo mientras la compilación sigue en curso: la lista
+     * devuelta nunca cambia y no requiere bloqueos. Está vacía hasta que se llama a
+     * {@link #activarInstantaneas()} y se alcanza el siguiente límite de scope.
+     * </p>
+     *
+     * @return La última instantánea publicada.
+     */
+    public InstantaneaTabla getInstantanea() {
+        return instantanea;
+    }
+
+    /**
+     * Devuelve el almacenamiento de filas de la tabla, para recorridos completos
+     * que leen los atributos de cada fila sin obtener objetos {@code Simbolo}.
+     *
+     * @return El almacenamiento de la tabla de símbolos.
+     */
+    public AlmacenSimbolos getAlmacen() {
         return tablaSimbolos;
     }
 
@@ -170,13 +485,8 @@ public class TablaSimbolos {
      * @return El objeto {@code Simbolo} correspondiente al nombre buscado si se encuentra
      * en la tabla de símbolos; de lo contrario, devuelve {@code null}.
      */
-    public Simbolo searchByName(String nombre) {
-        for (Simbolo simbolo : tablaSimbolos) {
-            if (simbolo.getNombre().equals(nombre)) {
-                return simbolo;
-            }
-        }
-        return null;
+    public Simbolo searchByName(int nombre) {
+        return buscarPorNombre(nombre);
     }
 
     /**
@@ -185,13 +495,12 @@ public class TablaSimbolos {
      * @param nombre El nombre del símbolo a buscar.
      * @return El tipo del símbolo como {@code TipoDatos}, o {@code null} si no se encuentra.
      */
-    public TipoDatos obtenerTipo(String nombre) {
-        for (Simbolo simbolo : tablaSimbolos) {
-            if (simbolo.getNombre().equals(nombre)) {
-                return TipoDatos.valueOf(simbolo.getTipo()); // Convierte el tipo almacenado a TipoDatos
-            }
+    public TipoDatos obtenerTipo(int nombre) {
+        int fila = filaPorNombre(nombre);
+        if (fila != -1) {
+            return tablaSimbolos.tipo(fila);
         }
-        System.err.println("Error semántico: Variable '" + nombre + "' no declarada.");
+        diagnosticos.println("Error semántico: Variable '" + nombre(nombre) + "' no declarada.");
         return null;
     }
 
@@ -199,44 +508,42 @@ public class TablaSimbolos {
      * Obtiene el valor de un símbolo dado su nombre.
      *
      * @param nombre El nombre del símbolo a buscar, encapsulado en un objeto {@code Symbol}.
-     * @return Un nuevo objeto {@code Symbol} con el valor de la variable, o el mismo objeto {@code nombre}
-     *         si la variable no está declarada.
+     * @return Un nuevo objeto {@code Symbol} con el valor de la variable, o con el nombre de la variable
+     *         si no está declarada.
      */
     public Symbol obtenerValor(Symbol nombre) {
-        String variable = nombre.value.toString();
-        String ambitoActual = obtenerAmbitoActual();
+        int variable = (Integer) nombre.value;
+        int ambitoActual = obtenerAmbitoActual();
 
         // Buscar primero en el ámbito actual
-        for (Simbolo simbolo : tablaSimbolos) {
-            if (simbolo.getNombre().equals(variable) && simbolo.getAmbito().equals(ambitoActual)) {
-                return new Symbol(-1, simbolo.getValor()); // Retorna el valor si se encuentra en el mismo ámbito
-            }
+        int fila = filaEnAmbito(ambitoActual, variable);
+        if (fila != -1) {
+            return new Symbol(-1, tablaSimbolos.valor(fila)); // Retorna el valor si se encuentra en el mismo ámbito
         }
 
         // Mensaje de error si no está en el ámbito actual
-        System.err.println("Error semántico: Variable '" + variable + "' no declarada en el ámbito actual.");
+        diagnosticos.println("Error semántico: Variable '" + nombre(variable) + "' no declarada en el ámbito actual.");
 
         // Buscar en toda la tabla de símbolos (variable global o en otro ámbito)
-        for (Simbolo simbolo : tablaSimbolos) {
-            if (simbolo.getNombre().equals(variable)) {
-                return new Symbol(-1, simbolo.getValor()); // Retorna el valor si existe en otro ámbito
-            }
+        fila = filaPorNombre(variable);
+        if (fila != -1) {
+            return new Symbol(-1, tablaSimbolos.valor(fila)); // Retorna el valor si existe en otro ámbito
         }
 
         // Mensaje de error si no se encuentra en ningún ámbito
-        System.err.println("Error semántico: Variable '" + variable + "' no declarada.");
-        return nombre;
+        diagnosticos.println("Error semántico: Variable '" + nombre(variable) + "' no declarada.");
+        return new Symbol(-1, nombre(variable));
     }
 
     /**
      * Obtiene el valor de un arreglo en un índice específico.
      *
-     * @param nombre El nombre del arreglo (como Symbol).
+     * @param nombre El identificador del nombre del arreglo.
      * @param indice El índice del arreglo (como Symbol).
      * @return El valor en el índice especificado (como Symbol).
      * @throws RuntimeException Si el arreglo no existe o el índice está fuera de los límites.
      */
-    public Symbol obtenerValorArreglo(String nombre, Symbol indice) {
+    public Symbol obtenerValorArreglo(int nombre, Symbol indice) {
         // Obtener el índice como un entero
         if (!(indice.value instanceof Integer)) {
             throw new RuntimeException("Error semántico: El índice debe ser un entero.");
@@ -244,26 +551,48 @@ public class TablaSimbolos {
         int idx = (Integer) indice.value;
 
         // Buscar el arreglo en la tabla de símbolos
-        for (Simbolo simbolo : tablaSimbolos) {
-            if (simbolo.getNombre().equals(nombre)) {
-                // Verificar si es un arreglo
-                if (simbolo.getArraySize() == -1) {
-                    throw new RuntimeException("Error semántico: '" + nombre + "' no es un arreglo.");
-                }
+        int fila = filaPorNombre(nombre);
+        if (fila == -1) {
+            // Si el arreglo no se encuentra, lanzar un error
+            throw new RuntimeException("Error semántico: Arreglo '" + nombre(nombre) + "' no declarado.");
+        }
 
-                // Verificar si el índice está dentro de los límites
-                if (idx < 0 || idx >= simbolo.getArraySize()) {
-                    throw new RuntimeException("Error semántico: Índice fuera de los límites para el arreglo '" + nombre + "'.");
-                }
+        // Verificar si es un arreglo
+        int tamano = tablaSimbolos.arraySize(fila);
+        if (tamano == -1) {
+            throw new RuntimeException("Error semántico: '" + nombre(nombre) + "' no es un arreglo.");
+        }
 
-                List<Object> array = (List<Object>) simbolo.getValor();
-                Object valor = array.get(idx);
+        // Verificar si el índice está dentro de los límites
+        if (idx < 0 || idx >= tamano) {
+            throw new RuntimeException("Error semántico: Índice fuera de los límites para el arreglo '" + nombre(nombre) + "'.");
+        }
 
-                return new Symbol(-1, valor); // Devolver el valor como un Symbol
+        Object valor;
+        Object arreglo = tablaSimbolos.valor(fila);
+        if (arreglo instanceof ValorArreglo) {
+            // Se lee con el método de acceso del tipo declarado, sin pasar por un valor genérico
+            ValorArreglo primitivo = (ValorArreglo) arreglo;
+            switch (tablaSimbolos.tipo(fila)) {
+                case INTEGER:
+                    valor = primitivo.obtenerEntero(idx);
+                    break;
+                case FLOAT:
+                    valor = primitivo.obtenerFlotante(idx);
+                    break;
+                case CHAR:
+                    valor = primitivo.obtenerCaracter(idx);
+                    break;
+                default:
+                    valor = primitivo.obtenerBooleano(idx);
+                    break;
             }
+        } else {
+            List<Object> array = (List<Object>) arreglo;
+            valor = array.get(idx);
         }
-        // Si el arreglo no se encuentra, lanzar un error
-        throw new RuntimeException("Error semántico: Arreglo '" + nombre + "' no declarado.");
+
+        return new Symbol(-1, valor); // Devolver el valor como un Symbol
     }
 
     /**
@@ -275,107 +604,168 @@ public class TablaSimbolos {
      */
     public Symbol obtenerTipoRetornoFuncion(Symbol Funcion) {
         // Obtener el nombre de la función a partir del valor del símbolo
-        String nombreFuncion = Funcion.value.toString();
-        Simbolo simbolo;
+        int nombreFuncion = (Integer) Funcion.value;
 
-        // Recorrer la tabla de símbolos para buscar la función
-        for (int i = 0; i < tablaSimbolos.size(); i++) {
-            simbolo = tablaSimbolos.get(i);
+        // Buscar primero la firma registrada de la función
+        Funciones.FirmaFuncion firma = obtenerFirma(nombreFuncion);
+        if (firma != null) {
+            return new Symbol(-1, firma.tipoRetorno());
+        }
 
-            // Si el nombre coincide, devolver el tipo de retorno de la función
-            if (simbolo.getNombre().equals(nombreFuncion)) {
-                return new Symbol(-1, simbolo.getTipo());
-            }
+        // Buscar la función en el índice por nombre
+        int fila = filaPorNombre(nombreFuncion);
+
+        // Si el nombre coincide, devolver el tipo de retorno de la función
+        if (fila != -1) {
+            return new Symbol(-1, tablaSimbolos.tipo(fila));
         }
 
         // Si no se encuentra la función, mostrar un mensaje de error
-        System.err.println("Error semántico: función '" + nombreFuncion + "' no declarada.");
+        diagnosticos.println("Error semántico: función '" + nombre(nombreFuncion) + "' no declarada.");
         return null;
     }
 
     /**
-     * Obtiene los tipos de los parámetros de una función específica.
+     * Registra la firma de una función declarada. Se llama una sola vez, al reducir la declaración.
      *
-     * @param Funcion El nombre de la función representado como un objeto {@code Symbol}.
-     * @return Una lista de cadenas que representan los tipos de los parámetros de la función.
-     *         Si la función no tiene parámetros o no está declarada, se devuelve una lista vacía.
+     * @param nombre El identificador del nombre de la función.
+     * @param firma  El tipo de retorno y los tipos de los parámetros de la función.
      */
-    public List<String> obtenerTipoParametrosFuncion(Symbol Funcion) {
-        // Obtener el nombre de la función a partir del valor del símbolo
-        String nombreFuncion = Funcion.value.toString();
-        Simbolo simbolo;
-        List<String> listaTipoParametros = new ArrayList<>();
+    public void registrarFirma(int nombre, Funciones.FirmaFuncion firma) {
+        if (indicePorAmbito.get(FIRMA, nombre) != -1) {
+            return;
+        }
+        if (cantidadFirmas == firmas.length) {
+            firmas = Arrays.copyOf(firmas, cantidadFirmas * 2);
+            nombresFirmas = Arrays.copyOf(nombresFirmas, cantidadFirmas * 2);
+        }
+        indicePorAmbito.putIfAbsent(FIRMA, nombre, cantidadFirmas);
+        firmas[cantidadFirmas] = firma;
+        nombresFirmas[cantidadFirmas++] = nombre;
+    }
 
-        // Recorrer la tabla de símbolos para buscar la función
-        for (int i = 0; i < tablaSimbolos.size(); i++) {
-            simbolo = tablaSimbolos.get(i);
+    /**
+     * Hace que la tabla imprima sus mensajes de error en un flujo dado en lugar de la salida de
+     * errores.
+     *
+     * @param diagnosticos El flujo donde se imprimen.
+     */
+    public void usarDiagnosticos(PrintStream diagnosticos) {
+        this.diagnosticos = diagnosticos;
+    }
 
-            // Si se encuentra la función, buscar sus parámetros en la tabla de símbolos
-            if (simbolo.getNombre().equals(nombreFuncion)) {
+    /**
+     * Indica dónde buscar las firmas de las funciones declaradas antes que las de esta tabla,
+     * cuando la tabla es la de una parte del programa analizada por separado. Las firmas
+     * registradas en esta tabla tienen prioridad.
+     *
+     * @param firmasAnteriores Da la firma de una función anterior a partir de su nombre, o
+     *                         {@code null} si ninguna función anterior tiene ese nombre.
+     */
+    public void usarFirmasAnteriores(IntFunction<Funciones.FirmaFuncion> firmasAnteriores) {
+        this.firmasAnteriores = firmasAnteriores;
+    }
 
-                // Buscar los parámetros de la función en posiciones anteriores de la tabla de símbolos
-                for (int x = i - 1; x >= 0; x--) {
-                    simbolo = tablaSimbolos.get(x);
+    /**
+     * Obtiene la firma de una función a partir de su nombre.
+     *
+     * @param nombre El identificador del nombre de la función.
+     * @return La firma de la función, o {@code null} si la función no ha sido declarada.
+     */
+    public Funciones.FirmaFuncion obtenerFirma(int nombre) {
+        int posicion = indicePorAmbito.get(FIRMA, nombre);
+        if (posicion != -1) {
+            return firmas[posicion];
+        }
+        return firmasAnteriores != null ? firmasAnteriores.apply(nombre) : null;
+    }
 
-                    // Si el símbolo es un parámetro, agregar su tipo a la lista
-                    if (simbolo.getTipoToken().equals("PARAMETER")) {
-                        listaTipoParametros.add(simbolo.getTipo());
-                    }
+    /**
+     * Agrega al final las filas y las firmas de otra tabla, en su orden, como si sus declaraciones
+     * se hubieran analizado a continuación de las de esta tabla. Las funciones y variables que
+     * repiten una declaración anterior se reportan y se descartan igual que en
+     * {@link #addToSymbolTable}.
+     *
+     * @param otra La tabla de símbolos de una parte del programa analizada por separado.
+     */
+    public void anexar(TablaSimbolos otra) {
+        anexar(otra, IntUnaryOperator.identity());
+    }
 
-                    // Si se alcanza el inicio de la tabla o se encuentra otra función, detener la búsqueda
-                    if (simbolo.getTipoToken().equals("FUNCTION")) {
-                        break;
-                    }
-                }
-                return listaTipoParametros;
+    /**
+     * Igual que {@link #anexar(TablaSimbolos)}, pero cambiando los nombres generados de los
+     * retornos, quiebres y estructuras de control, por ejemplo cuando la otra tabla se analizó
+     * con otra numeración.
+     *
+     * @param otra      La tabla de símbolos de una parte del programa analizada por separado.
+     * @param renombrar Da el nuevo identificador de cada nombre generado.
+     */
+    public void anexar(TablaSimbolos otra, IntUnaryOperator renombrar) {
+        AlmacenSimbolos filas = otra.tablaSimbolos;
+        for (int i = 0; i < filas.size(); i++) {
+            int nombre = filas.nombre(i);
+            int ambito = filas.ambito(i);
+            TipoSimbolo tipoToken = filas.tipoToken(i);
+
+            if (tipoToken == TipoSimbolo.FUNCTION && exists(nombre)) {
+                diagnosticos.println("Error semántico: La función '" + nombre(nombre) + "' ya está declarada");
+                continue;
+            }
+            if (esNombreGenerado(tipoToken)) {
+                nombre = renombrar.applyAsInt(nombre);
+            }
+            if (verificarDuplicadoEnAmbito(ambito, nombre)) {
+                continue;
             }
+
+            int fila = tablaSimbolos.agregar(filas.tipo(i), tipoToken, nombre, filas.valor(i), filas.arraySize(i), filas.scope(i), ambito);
+            indexar(fila, nombre, ambito);
+        }
+        for (int i = 0; i < otra.cantidadFirmas; i++) {
+            registrarFirma(otra.nombresFirmas[i], otra.firmas[i]);
         }
-        return listaTipoParametros;
     }
 
     /**
-     * Escribe la tabla de símbolos en un archivo de texto en formato tabular.
-     * <p>
-     * La tabla de símbolos se guarda en un archivo llamado "salida_simbolos.txt",
-     * con columnas que incluyen el nombre del símbolo, tipo de token, tipo de dato,
-     * valor, tamaño (si es un array), alcance (scope) y ámbito (ambito).
-     * </p>
+     * Indica si el parser genera el nombre de las filas de una categoría ("return1", "if2", ...).
+     *
+     * @param tipoToken La categoría del símbolo.
+     * @return {@code true} para retornos, quiebres y estructuras de control.
+     */
+    private static boolean esNombreGenerado(TipoSimbolo tipoToken) {
+        return tipoToken == TipoSimbolo.RETURN || tipoToken == TipoSimbolo.BREAK || tipoToken == TipoSimbolo.IF
+                || tipoToken == TipoSimbolo.CYCLE || tipoToken == TipoSimbolo.SWITCH;
+    }
+
+    /**
+     * Escribe la tabla de símbolos en "salida_simbolos.bin" y, a partir de ese archivo,
+     * la versión de texto en formato tabular en "salida_simbolos.txt".
      * <p>
-     * Si el archivo ya existe, se sobrescribe. En caso de error al escribir el archivo,
+     * Si los archivos ya existen, se sobrescriben. En caso de error al escribir los archivos,
      * se captura y muestra un mensaje de error en la salida estándar de error.
      * </p>
      */
     public void escribirTabla() {
-        // Nombre del archivo donde se guardará la tabla de símbolos
-        String archivoSimbolos = "salida_simbolos.txt";
-
-        try (BufferedWriter simbolosWriter = new BufferedWriter(new FileWriter(archivoSimbolos, false))) {
-            // Escribir encabezado de la tabla con separadores
-            simbolosWriter.write("-------------------------------------------------------------------------------------------------------------------------------------------------------------\n");
-            simbolosWriter.write(String.format("| %-15s | %-25s | %-25s | %-40s | %-10s | %-10s | %-10s |%n",
-                    "Nombre", "Tipo token", "Tipo", "Valor", "Tamaño", "Scope", "Ámbito"));
-            simbolosWriter.write("-------------------------------------------------------------------------------------------------------------------------------------------------------------\n");
-
-            // Iterar sobre la tabla de símbolos y escribir cada símbolo en el archivo
-            for (Simbolo simbolo : tablaSimbolos) {
-                String linea = String.format("| %-15s | %-25s | %-25s | %-40s | %-10s | %-10s | %-10s |%n",
-                        simbolo.getNombre(),
-                        simbolo.getTipoToken(),
-                        simbolo.getTipo(),
-                        simbolo.getValor(),
-                        (simbolo.getArraySize() != -1) ? simbolo.getArraySize() : "N/A", // Si no es un array, mostrar "N/A"
-                        simbolo.getScope(),
-                        simbolo.getAmbito()
-                );
-                simbolosWriter.write(linea); // Escribe la línea en el archivo
-            }
-
-            // Escribir la línea final del separador
-            simbolosWriter.write("-------------------------------------------------------------------------------------------------------------------------------------------------------------\n");
+        escribirTabla(Paths.get("salida_simbolos.bin"), Paths.get("salida_simbolos.txt"));
+    }
 
+    /**
+     * Escribe la tabla de símbolos en formato binario (ver {@link TablaBinaria}) y,
+     * opcionalmente, la renderiza como texto tabular con columnas que incluyen el nombre del
+     * símbolo, tipo de token, tipo de dato, valor, tamaño (si es un array), alcance (scope) y ámbito.
+     *
+     * @param archivoBinario La ruta del archivo binario.
+     * @param archivoTexto   La ruta del archivo de texto, o {@code null} para no generarlo.
+     */
+    public void escribirTabla(Path archivoBinario, Path archivoTexto) {
+        try {
+            TablaBinaria.escribir(tablaSimbolos, identificadores, archivoBinario);
+            if (archivoTexto != null) {
+                TablaBinaria.abrir(archivoBinario).renderizarTexto(archivoTexto);
+            }
         } catch (IOException e) {
             // Capturar y mostrar cualquier error de escritura en el archivo
             System.err.println("Error al escribir la tabla de símbolos en el archivo: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
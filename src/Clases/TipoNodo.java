@@ -0,0 +1,34 @@
+package Clases;
+
+/**
+ * Enumeración que representa la clase de un nodo del árbol sintáctico.
+ */
+public enum TipoNodo {
+    PROGRAMA,               // Raíz: las funciones y _verano_ en orden.
+    FUNCION,                // Hijos: parámetros y bloque. Token: el nombre. Dato: tipo de retorno.
+    MAIN,                   // Hijo: el bloque. Token: _verano_.
+    PARAMETRO,              // Token: el nombre. Dato: el tipo.
+    BLOQUE,                 // Hijos: las sentencias. Token: la apertura del bloque.
+    INICIALIZADOR,          // Hijos: los valores de un arreglo entre llaves.
+    DECLARACION,            // Token: el nombre. Dato: el tipo.
+    DECLARACION_ASIGNACION, // Hijo: el valor. Token: el nombre. Dato: el tipo.
+    DECLARACION_ARREGLO,    // Hijos: el tamaño y, si tiene, el inicializador. Token: el nombre. Dato: el tipo.
+    ASIGNACION,             // Hijo: el valor o el inicializador. Token: el nombre.
+    ASIGNACION_ELEMENTO,    // Hijos: el índice y el valor. Token: el nombre del arreglo.
+    RETORNO,                // Hijo: el valor, si tiene. Token: la palabra de retorno.
+    QUIEBRE,                // Token: la palabra de quiebre.
+    SI,                     // Hijos: la condición, el bloque y, si tiene, el bloque del sino.
+    MIENTRAS,               // Hijos: la condición y el bloque.
+    PARA,                   // Hijos: la asignación inicial, la condición, el paso y el bloque.
+    SEGUN,                  // Hijos: la expresión y los casos.
+    CASO,                   // Hijos: la expresión (salvo en el caso por defecto) y las sentencias.
+    IMPRIMIR,               // Hijo: la expresión.
+    LEER,                   // Token: el nombre de la variable.
+    BINARIA,                // Hijos: los dos operandos. Token: el operador.
+    UNARIA_PREFIJA,         // Hijo: el operando. Token: el operador.
+    UNARIA_POSFIJA,         // Hijo: el operando. Token: el operador.
+    IDENTIFICADOR,          // Token: el nombre.
+    LITERAL,                // Token: el literal.
+    ACCESO_ARREGLO,         // Hijo: el índice. Token: el nombre del arreglo.
+    LLAMADA;                // Hijos: los argumentos. Token: el nombre de la función.
+}
@@ -0,0 +1,16 @@
+package Clases;
+
+/**
+ * Enumeración que representa la categoría de un símbolo dentro de la tabla de símbolos.
+ */
+public enum TipoSimbolo {
+    VARIABLE,  // Representa una variable declarada.
+    PARAMETER, // Representa un parámetro de función.
+    ARRAY,     // Representa un arreglo declarado.
+    FUNCTION,  // Representa una función (incluye _verano_).
+    RETURN,    // Representa una sentencia de retorno.
+    BREAK,     // Representa una sentencia break.
+    IF,        // Representa una estructura if.
+    CYCLE,     // Representa un ciclo (while o for).
+    SWITCH;    // Representa una estructura switch.
+}
\ No newline at end of file
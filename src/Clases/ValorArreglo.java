@@ -0,0 +1,234 @@
+package Clases;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Valor de un arreglo de la tabla de símbolos guardado en un arreglo primitivo.
+ * <p>
+ * Según el tipo declarado se usa un {@code int[]}, {@code float[]}, {@code char[]} o {@code boolean[]}
+ * en lugar de una lista de valores encapsulados. Cada subclase implementa solo el método de acceso
+ * de su tipo; los demás lanzan {@link UnsupportedOperationException}.
+ * </p>
+ */
+public abstract class ValorArreglo {
+
+    /**
+     * Crea el valor primitivo de un arreglo a partir de los valores de su inicialización.
+     *
+     * @param tipo    El tipo de dato declarado del arreglo.
+     * @param valores Los valores de la inicialización.
+     * @return El arreglo primitivo, o {@code null} si el tipo no tiene representación primitiva
+     *         o algún valor no es exactamente del tipo declarado.
+     */
+    public static ValorArreglo crear(TipoDatos tipo, List<?> valores) {
+        if (tipo == null) {
+            return null;
+        }
+        int tamano = valores.size();
+        switch (tipo) {
+            case INTEGER: {
+                int[] datos = new int[tamano];
+                for (int i = 0; i < tamano; i++) {
+                    if (!(valores.get(i) instanceof Integer)) {
+                        return null;
+                    }
+                    datos[i] = (Integer) valores.get(i);
+                }
+                return new Enteros(datos);
+            }
+            case FLOAT: {
+                float[] datos = new float[tamano];
+                for (int i = 0; i < tamano; i++) {
+                    if (!(valores.get(i) instanceof Float)) {
+                        return null;
+                    }
+                    datos[i] = (Float) valores.get(i);
+                }
+                return new Flotantes(datos);
+            }
+            case CHAR: {
+                char[] datos = new char[tamano];
+                for (int i = 0; i < tamano; i++) {
+                    if (!(valores.get(i) instanceof Character)) {
+                        return null;
+                    }
+                    datos[i] = (Character) valores.get(i);
+                }
+                return new Caracteres(datos);
+            }
+            case BOOL: {
+                boolean[] datos = new boolean[tamano];
+                for (int i = 0; i < tamano; i++) {
+                    if (!(valores.get(i) instanceof Boolean)) {
+                        return null;
+                    }
+                    datos[i] = (Boolean) valores.get(i);
+                }
+                return new Booleanos(datos);
+            }
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Obtiene el tipo de dato de los elementos.
+     * @return Tipo de dato de los elementos.
+     */
+    public abstract TipoDatos tipo();
+
+    /**
+     * Obtiene la cantidad de elementos.
+     * @return Cantidad de elementos.
+     */
+    public abstract int tamano();
+
+    /**
+     * Obtiene un elemento de un arreglo de enteros.
+     * @param indice El índice del elemento.
+     * @return El elemento.
+     */
+    public int obtenerEntero(int indice) {
+        throw new UnsupportedOperationException("El arreglo es de tipo " + tipo());
+    }
+
+    /**
+     * Obtiene un elemento de un arreglo de flotantes.
+     * @param indice El índice del elemento.
+     * @return El elemento.
+     */
+    public float obtenerFlotante(int indice) {
+        throw new UnsupportedOperationException("El arreglo es de tipo " + tipo());
+    }
+
+    /**
+     * Obtiene un elemento de un arreglo de caracteres.
+     * @param indice El índice del elemento.
+     * @return El elemento.
+     */
+    public char obtenerCaracter(int indice) {
+        throw new UnsupportedOperationException("El arreglo es de tipo " + tipo());
+    }
+
+    /**
+     * Obtiene un elemento de un arreglo de booleanos.
+     * @param indice El índice del elemento.
+     * @return El elemento.
+     */
+    public boolean obtenerBooleano(int indice) {
+        throw new UnsupportedOperationException("El arreglo es de tipo " + tipo());
+    }
+
+    private static final class Enteros extends ValorArreglo {
+        private final int[] datos;
+
+        private Enteros(int[] datos) {
+            this.datos = datos;
+        }
+
+        @Override
+        public TipoDatos tipo() {
+            return TipoDatos.INTEGER;
+        }
+
+        @Override
+        public int tamano() {
+            return datos.length;
+        }
+
+        @Override
+        public int obtenerEntero(int indice) {
+            return datos[indice];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(datos);
+        }
+    }
+
+    private static final class Flotantes extends ValorArreglo {
+        private final float[] datos;
+
+        private Flotantes(float[] datos) {
+            this.datos = datos;
+        }
+
+        @Override
+        public TipoDatos tipo() {
+            return TipoDatos.FLOAT;
+        }
+
+        @Override
+        public int tamano() {
+            return datos.length;
+        }
+
+        @Override
+        public float obtenerFlotante(int indice) {
+            return datos[indice];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(datos);
+        }
+    }
+
+    private static final class Caracteres extends ValorArreglo {
+        private final char[] datos;
+
+        private Caracteres(char[] datos) {
+            this.datos = datos;
+        }
+
+        @Override
+        public TipoDatos tipo() {
+            return TipoDatos.CHAR;
+        }
+
+        @Override
+        public int tamano() {
+            return datos.length;
+        }
+
+        @Override
+        public char obtenerCaracter(int indice) {
+            return datos[indice];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(datos);
+        }
+    }
+
+    private static final class Booleanos extends ValorArreglo {
+        private final boolean[] datos;
+
+        private Booleanos(boolean[] datos) {
+            this.datos = datos;
+        }
+
+        @Override
+        public TipoDatos tipo() {
+            return TipoDatos.BOOL;
+        }
+
+        @Override
+        public int tamano() {
+            return datos.length;
+        }
+
+        @Override
+        public boolean obtenerBooleano(int indice) {
+            return datos[indice];
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(datos);
+        }
+    }
+}
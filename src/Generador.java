@@ -0,0 +1,149 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import jflex.exceptions.SilentExit;
+
+/**
+ * Paso de compilación que genera el lexer y el parser.
+ * <p>
+ * Se ejecuta antes de compilar el proyecto ({@code java Generador}) y corre JFlex sobre
+ * {@code Lexer.jflex} y CUP sobre {@code Parser.cup} solo si su contenido cambió desde la última
+ * generación. Para saberlo, junto a los archivos generados se guarda una huella: el SHA-256 de la
+ * especificación y de la versión del generador. Con la opción {@code --forzar} se generan siempre.
+ * </p>
+ * <p>
+ * {@link Main} ya no genera nada al iniciar; solo avisa si una huella no coincide, para que se
+ * vuelva a ejecutar este paso, o genera si se le pide con {@code --generar}.
+ * </p>
+ */
+public class Generador {
+
+    static final Path LEXER = Paths.get("src/JFLEX/Lexer.jflex");
+    static final Path HUELLA_LEXER = Paths.get("src/JFLEX/Lexer.huella");
+    static final Path PARSER = Paths.get("src/CUP/Parser.cup");
+    static final Path HUELLA_PARSER = Paths.get("src/CUP/Parser.huella");
+
+    /**
+     * Genera el lexer y el parser que estén desactualizados.
+     * @param args {@code --forzar} para generarlos aunque sus huellas coincidan
+     */
+    public static void main(String[] args) throws IOException, SilentExit {
+        List<String> opciones = Arrays.asList(args);
+        generar(opciones.contains("--forzar"));
+    }
+
+    /**
+     * Genera el lexer y el parser cuyas especificaciones cambiaron desde la última generación.
+     * @param forzar Si se generan aunque sus huellas coincidan
+     * @throws IOException Si no se puede leer una especificación o escribir su huella
+     * @throws SilentExit Si ocurre un error en la generación del lexer
+     */
+    public static void generar(boolean forzar) throws IOException, SilentExit {
+        String huellaLexer = huella(LEXER, jflex.base.Build.VERSION);
+        if (forzar || !huellaLexer.equals(huellaGuardada(HUELLA_LEXER))) {
+            generarLexer(LEXER.toString());
+            Files.writeString(HUELLA_LEXER, huellaLexer + System.lineSeparator());
+        } else {
+            System.out.println("Lexer sin cambios.");
+        }
+
+        String huellaParser = huella(PARSER, java_cup.version.version_str);
+        if (forzar || !huellaParser.equals(huellaGuardada(HUELLA_PARSER))) {
+            if (generarParser(PARSER.toString())) {
+                Files.writeString(HUELLA_PARSER, huellaParser + System.lineSeparator());
+            }
+        } else {
+            System.out.println("Parser sin cambios.");
+        }
+    }
+
+    /**
+     * Indica qué especificaciones cambiaron desde la última generación, sin cargar los
+     * generadores; si una especificación no existe, por ejemplo al ejecutar fuera del proyecto,
+     * no se reporta.
+     * @return Los nombres de las especificaciones desactualizadas
+     */
+    static List<String> desactualizados() {
+        try {
+            boolean lexer = Files.exists(LEXER) && !huella(LEXER, jflex.base.Build.VERSION).equals(huellaGuardada(HUELLA_LEXER));
+            boolean parser = Files.exists(PARSER) && !huella(PARSER, java_cup.version.version_str).equals(huellaGuardada(HUELLA_PARSER));
+            if (lexer && parser) {
+                return List.of(LEXER.getFileName().toString(), PARSER.getFileName().toString());
+            }
+            return lexer ? List.of(LEXER.getFileName().toString()) : parser ? List.of(PARSER.getFileName().toString()) : List.of();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    /**
+     * Calcula la huella de una especificación.
+     * @param especificacion La ruta del archivo .jflex o .cup
+     * @param version La versión del generador, que también cambia el código generado
+     * @return El SHA-256 en hexadecimal
+     * @throws IOException Si no se puede leer el archivo
+     */
+    private static String huella(Path especificacion, String version) throws IOException {
+        try {
+            MessageDigest resumen = MessageDigest.getInstance("SHA-256");
+            resumen.update(version.getBytes(StandardCharsets.UTF_8));
+            resumen.update((byte) 0);
+            resumen.update(Files.readAllBytes(especificacion));
+            return HexFormat.of().formatHex(resumen.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Lee la huella guardada en la última generación.
+     * @param archivo La ruta del archivo de huella
+     * @return La huella, o una cadena vacía si nunca se generó
+     * @throws IOException Si el archivo existe pero no se puede leer
+     */
+    private static String huellaGuardada(Path archivo) throws IOException {
+        return Files.exists(archivo) ? Files.readString(archivo).trim() : "";
+    }
+
+    /**
+     * Genera el archivo de parser a partir del archivo especificado.
+     * @param inputFile Ruta del archivo .cup que contiene la gramática del parser
+     * @return {@code true} si el parser se generó
+     */
+    public static boolean generarParser(String inputFile) {
+        try {
+            String[] archivoEntrada = {
+                    "-destdir", "src/CUP",
+                    "-parser", "Parser",
+                    "-symbols", "sym",
+                    inputFile
+            };
+
+            java_cup.Main.main(archivoEntrada);
+            System.out.println("Parser generado exitosamente.");
+            return true;
+        } catch (Exception e) {
+            System.err.println("Error al generar el parser: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Genera el archivo de lexer a partir del archivo especificado.
+     * @param inputFile Ruta del archivo .jflex que contiene la definición del lexer
+     * @throws SilentExit Si ocurre un error en la generación del lexer
+     */
+    public static void generarLexer(String inputFile) throws SilentExit {
+        String[] archivoEntrada = { inputFile };
+        jflex.Main.generate(archivoEntrada);
+        System.out.println("Lexer generado exitosamente.");
+    }
+}
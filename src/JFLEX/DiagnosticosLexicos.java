@@ -0,0 +1,278 @@
+package JFLEX;
+
+import java.util.Arrays;
+
+/**
+ * Registro de errores léxicos.
+ * <p>
+ * Cada error se guarda como posición, longitud y clase en arreglos de enteros; el mensaje, con su
+ * línea y columna, se arma desde el texto fuente y su {@link TablaLineas} solo al imprimirlo. Los
+ * caracteres no reconocidos que están uno junto al otro se unen en un solo error con un rango de
+ * columnas, así que una entrada binaria o con otra codificación no produce un error por carácter.
+ * </p>
+ * <p>
+ * Cuando el lexer lee desde un {@code Reader} no hay texto completo ni índice de líneas; entonces
+ * cada error guarda además su línea, su columna y los primeros caracteres de su texto, y el
+ * registro solo conserva los errores que todavía no se imprimieron.
+ * </p>
+ * <p>
+ * Solo se imprimen los primeros {@link #LIMITE_IMPRESOS} errores; los demás se cuentan y al final
+ * se imprime un resumen con la cantidad omitida.
+ * </p>
+ */
+public class DiagnosticosLexicos {
+
+    /** Cantidad máxima de errores que se imprimen. */
+    public static final int LIMITE_IMPRESOS = 100;
+
+    /** Cantidad máxima de caracteres del texto de un error que se muestran en su mensaje. */
+    private static final int LIMITE_TEXTO = 40;
+
+    /** Un carácter que ninguna regla reconoce. */
+    static final byte CARACTER = 0;
+
+    /** Una palabra que no es palabra reservada ni identificador. */
+    static final byte PALABRA = 1;
+
+    private final char[] fuente;
+    private final TablaLineas lineas;
+    private int cantidad;
+    private int[] posiciones;
+    private int[] longitudes;
+    private byte[] clases;
+    private int[] lineasErrores;
+    private int[] columnas;
+    private String[] textos;
+    private boolean terminaEnSalto;
+    private int impresos;
+    private int omitidos;
+
+    /**
+     * Crea un registro vacío.
+     *
+     * @param fuente El texto fuente al que apuntan las posiciones de los errores.
+     * @param lineas El índice de líneas del texto fuente.
+     */
+    DiagnosticosLexicos(char[] fuente, TablaLineas lineas) {
+        this.fuente = fuente;
+        this.lineas = lineas;
+        posiciones = new int[16];
+        longitudes = new int[16];
+        clases = new byte[16];
+    }
+
+    /**
+     * Crea un registro vacío para una entrada que se lee desde un {@code Reader}, donde los
+     * errores se agregan con su línea, su columna y su texto.
+     */
+    DiagnosticosLexicos() {
+        this(null, null);
+        lineasErrores = new int[16];
+        columnas = new int[16];
+        textos = new String[16];
+    }
+
+    /**
+     * Guarda un error. Si es un carácter no reconocido que sigue inmediatamente al error anterior
+     * en la misma línea, se une con él.
+     *
+     * @param clase    {@link #CARACTER} o {@link #PALABRA}.
+     * @param posicion La posición del texto que causó el error.
+     * @param longitud La cantidad de caracteres del error.
+     */
+    void agregar(byte clase, int posicion, int longitud) {
+        if (continuaSerie(clase, posicion)) {
+            longitudes[cantidad - 1] += longitud;
+            return;
+        }
+        nuevo(clase, posicion, longitud);
+    }
+
+    /**
+     * Guarda un error de una entrada que se lee desde un {@code Reader}. Como el texto deja de estar
+     * en el buffer del lexer antes de imprimirse, se copian su línea, su columna y hasta
+     * {@link #LIMITE_TEXTO} caracteres.
+     *
+     * @param clase    {@link #CARACTER} o {@link #PALABRA}.
+     * @param posicion La posición del texto que causó el error.
+     * @param texto    El buffer con el texto del error.
+     * @param desde    La posición del error en el buffer.
+     * @param longitud La cantidad de caracteres del error.
+     * @param linea    La línea del error, comenzando en 1.
+     * @param columna  La columna del error, comenzando en 1.
+     */
+    void agregar(byte clase, int posicion, char[] texto, int desde, int longitud, int linea, int columna) {
+        if (continuaSerie(clase, posicion)) {
+            int ultimo = cantidad - 1;
+            longitudes[ultimo] += longitud;
+            int faltan = LIMITE_TEXTO - textos[ultimo].length();
+            if (faltan > 0) {
+                textos[ultimo] += new String(texto, desde, Math.min(longitud, faltan));
+            }
+        } else {
+            nuevo(clase, posicion, longitud);
+            lineasErrores[cantidad - 1] = linea;
+            columnas[cantidad - 1] = columna;
+            textos[cantidad - 1] = new String(texto, desde, Math.min(longitud, LIMITE_TEXTO));
+        }
+        terminaEnSalto = TablaLineas.esFinDeLinea(texto[desde + longitud - 1]);
+    }
+
+    /**
+     * Indica si un error se une con el anterior: los dos son caracteres no reconocidos seguidos y
+     * están en la misma línea, es decir, el anterior no termina en un salto.
+     */
+    private boolean continuaSerie(byte clase, int posicion) {
+        if (clase != CARACTER || cantidad == 0) {
+            return false;
+        }
+        int ultimo = cantidad - 1;
+        return clases[ultimo] == CARACTER && posiciones[ultimo] + longitudes[ultimo] == posicion
+                && !(fuente == null ? terminaEnSalto : TablaLineas.esFinDeLinea(fuente[posicion - 1]));
+    }
+
+    private void nuevo(byte clase, int posicion, int longitud) {
+        if (cantidad == posiciones.length) {
+            int capacidad = cantidad * 2;
+            posiciones = Arrays.copyOf(posiciones, capacidad);
+            longitudes = Arrays.copyOf(longitudes, capacidad);
+            clases = Arrays.copyOf(clases, capacidad);
+            if (textos != null) {
+                lineasErrores = Arrays.copyOf(lineasErrores, capacidad);
+                columnas = Arrays.copyOf(columnas, capacidad);
+                textos = Arrays.copyOf(textos, capacidad);
+            }
+        }
+        posiciones[cantidad] = posicion;
+        longitudes[cantidad] = longitud;
+        clases[cantidad] = clase;
+        cantidad++;
+    }
+
+    /**
+     * Copia los errores de otro registro que caen en un rango del texto, desplazando sus
+     * posiciones.
+     *
+     * @param otro           El registro de origen.
+     * @param desde          La posición del texto de origen desde donde se copian errores.
+     * @param hasta          La posición del texto de origen hasta donde se copian, sin incluirla.
+     * @param desplazamiento Lo que se suma a las posiciones.
+     */
+    void anexar(DiagnosticosLexicos otro, int desde, int hasta, int desplazamiento) {
+        for (int e = otro.buscar(desde); e < otro.cantidad && otro.posiciones[e] < hasta; e++) {
+            agregar(otro.clases[e], otro.posiciones[e] + desplazamiento, otro.longitudes[e]);
+        }
+    }
+
+    /**
+     * Busca el primer error en una posición del texto o después.
+     *
+     * @param posicion La posición del texto.
+     * @return El índice del error, o {@link #cantidad()} si no hay ninguno.
+     */
+    int buscar(int posicion) {
+        int indice = Arrays.binarySearch(posiciones, 0, cantidad, posicion);
+        return indice >= 0 ? indice : -indice - 1;
+    }
+
+    /**
+     * Obtiene la cantidad de errores guardados.
+     * @return Cantidad de errores.
+     */
+    public int cantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Obtiene la posición en el texto fuente de un error.
+     * @param indice La posición del error.
+     * @return Posición del primer carácter del error.
+     */
+    public int posicion(int indice) {
+        return posiciones[indice];
+    }
+
+    /**
+     * Obtiene la cantidad de caracteres de un error.
+     * @param indice La posición del error.
+     * @return Cantidad de caracteres, que en una serie de caracteres no reconocidos es la de toda
+     *         la serie.
+     */
+    public int longitud(int indice) {
+        return longitudes[indice];
+    }
+
+    /**
+     * Obtiene el mensaje completo de un error.
+     * @param indice La posición del error.
+     * @return El mensaje con su texto, línea y columna.
+     */
+    public String mensaje(int indice) {
+        int longitud = longitudes[indice];
+        int linea;
+        int columna;
+        String texto;
+        if (fuente == null) {
+            linea = lineasErrores[indice];
+            columna = columnas[indice];
+            texto = longitud <= LIMITE_TEXTO ? textos[indice] : textos[indice] + "...";
+        } else {
+            linea = lineas.indiceLinea(posiciones[indice]);
+            columna = posiciones[indice] - lineas.inicioLinea(linea) + 1;
+            linea++;
+            texto = longitud <= LIMITE_TEXTO
+                    ? new String(fuente, posiciones[indice], longitud)
+                    : new String(fuente, posiciones[indice], LIMITE_TEXTO) + "...";
+        }
+        if (clases[indice] == PALABRA) {
+            return "Error léxico: \"" + texto + "\" en línea " + linea + ", columna " + columna;
+        }
+        if (longitud == 1) {
+            return "Error léxico: " + texto + " en línea " + linea + ", columna " + columna;
+        }
+        return "Error léxico: " + texto + " en línea " + linea + ", columnas " + columna
+                + " a " + (columna + longitud - 1);
+    }
+
+    /**
+     * Imprime un error si todavía no se alcanzó el límite; si no, solo lo cuenta.
+     * @param indice La posición del error.
+     */
+    void imprimir(int indice) {
+        if (impresos < LIMITE_IMPRESOS) {
+            System.err.println(mensaje(indice));
+            impresos++;
+        } else {
+            omitidos++;
+        }
+    }
+
+    /**
+     * Imprime los errores guardados y los descarta; lo usa el lexer para intercalarlos con el
+     * reporte de tokens en el orden en que aparecen.
+     */
+    void imprimirPendientes() {
+        for (int e = 0; e < cantidad; e++) {
+            imprimir(e);
+        }
+        cantidad = 0;
+    }
+
+    /**
+     * Indica si hay errores guardados que todavía no se imprimieron.
+     * @return {@code true} si hay al menos uno.
+     */
+    boolean hayPendientes() {
+        return cantidad > 0;
+    }
+
+    /**
+     * Imprime cuántos errores se omitieron por el límite, si hubo alguno.
+     */
+    void imprimirResumen() {
+        if (omitidos > 0) {
+            System.err.println("Se omitieron " + omitidos + " errores léxicos más ("
+                    + (impresos + omitidos) + " en total).");
+        }
+    }
+}
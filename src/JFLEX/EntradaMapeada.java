@@ -0,0 +1,180 @@
+package JFLEX;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lectura de archivos fuente mapeados en memoria.
+ * <p>
+ * El archivo se mapea con un {@link FileChannel} en ventanas grandes y se decodifica como UTF-8 en
+ * bloques hacia una ventana de caracteres, de donde el lexer copia su buffer en cada recarga. Así se
+ * evitan las lecturas del sistema y la decodificación por tramos pequeños de un {@code FileReader},
+ * y la memoria usada no depende del tamaño del archivo. Se activa con la opción {@code --mapeado}.
+ * </p>
+ */
+public final class EntradaMapeada extends Reader {
+
+    private static final long TAMANO_VENTANA = 64L << 20;
+    private static final int TAMANO_BLOQUE = 1 << 20;
+
+    private final FileChannel canal;
+    private final long tamano;
+    private final CharsetDecoder decodificador;
+    private final ByteBuffer bloque;
+    private final CharBuffer caracteres;
+    private MappedByteBuffer ventana;
+    private long siguienteVentana;
+    private boolean terminado;
+
+    private EntradaMapeada(FileChannel canal) throws IOException {
+        this.canal = canal;
+        this.tamano = canal.size();
+        this.decodificador = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // El decodificador solo usa su camino rápido entre buffers respaldados por arreglos,
+        // así que cada ventana mapeada se copia en bloques a un buffer del heap
+        this.bloque = ByteBuffer.allocate((int) Math.min(TAMANO_BLOQUE, Math.max(tamano, 1)));
+        this.caracteres = CharBuffer.allocate(TAMANO_BLOQUE);
+        this.caracteres.flip();
+    }
+
+    /**
+     * Abre un archivo para leerlo por ventanas.
+     * Las secuencias UTF-8 inválidas se reemplazan, igual que con un {@code FileReader}.
+     *
+     * @param archivo La ruta del archivo fuente.
+     * @return El lector del archivo, que se cierra junto con el canal.
+     * @throws IOException Si el archivo no se puede abrir.
+     */
+    public static EntradaMapeada abrir(Path archivo) throws IOException {
+        return new EntradaMapeada(FileChannel.open(archivo, StandardOpenOption.READ));
+    }
+
+    /**
+     * Lee y decodifica un archivo completo, para los modos que necesitan toda la entrada en memoria.
+     * El arreglo crece con cada ventana decodificada, así que su tamaño sigue a la cantidad de
+     * caracteres y no a la de bytes.
+     *
+     * @param archivo La ruta del archivo fuente.
+     * @return Los caracteres del archivo, desde la posición 0 hasta el límite del buffer.
+     * @throws IOException Si el archivo no se puede leer o es demasiado grande para un arreglo.
+     */
+    public static CharBuffer leer(Path archivo) throws IOException {
+        try (EntradaMapeada entrada = abrir(archivo)) {
+            if (entrada.tamano > Integer.MAX_VALUE - 8) {
+                throw new IOException("El archivo " + archivo + " es demasiado grande para analizarlo en memoria.");
+            }
+            char[] contenido = new char[(int) Math.min(entrada.tamano, TAMANO_BLOQUE)];
+            int longitud = 0;
+            while (entrada.llenar()) {
+                int cantidad = entrada.caracteres.remaining();
+                if (longitud + cantidad > contenido.length) {
+                    contenido = Arrays.copyOf(contenido, Math.max(longitud + cantidad, contenido.length * 2));
+                }
+                entrada.caracteres.get(contenido, longitud, cantidad);
+                longitud += cantidad;
+            }
+            return CharBuffer.wrap(contenido, 0, longitud);
+        }
+    }
+
+    /**
+     * Lee un archivo completo sin decodificarlo, para {@link LexerBytes}.
+     *
+     * @param archivo La ruta del archivo fuente.
+     * @return Los bytes del archivo en un buffer respaldado por un arreglo.
+     * @throws IOException Si el archivo no se puede leer o es demasiado grande para un arreglo.
+     */
+    public static ByteBuffer leerBytes(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long tamano = canal.size();
+            if (tamano > Integer.MAX_VALUE - 8) {
+                throw new IOException("El archivo " + archivo + " es demasiado grande para analizarlo en memoria.");
+            }
+            ByteBuffer contenido = ByteBuffer.allocate((int) tamano);
+            while (contenido.hasRemaining() && canal.read(contenido) >= 0) {
+                // El canal puede entregar el archivo en varias lecturas
+            }
+            contenido.flip();
+            return contenido;
+        }
+    }
+
+    @Override
+    public int read(char[] destino, int desde, int cantidad) throws IOException {
+        if (cantidad == 0) {
+            return 0;
+        }
+        if (!caracteres.hasRemaining() && !llenar()) {
+            return -1;
+        }
+        int leidos = Math.min(cantidad, caracteres.remaining());
+        caracteres.get(destino, desde, leidos);
+        return leidos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        ventana = null;
+        canal.close();
+    }
+
+    /**
+     * Decodifica la siguiente ventana de caracteres, mapeando más del archivo cuando hace falta.
+     *
+     * @return {@code false} si ya no quedan caracteres.
+     */
+    private boolean llenar() throws IOException {
+        if (terminado) {
+            return false;
+        }
+        caracteres.clear();
+        while (caracteres.hasRemaining()) {
+            if (ventana == null || !ventana.hasRemaining()) {
+                if (siguienteVentana >= tamano) {
+                    bloque.flip();
+                    CoderResult resultado = decodificar(bloque, true);
+                    bloque.compact();
+                    // Si la ventana de caracteres se llenó, el final se decodifica en la siguiente llamada
+                    terminado = resultado.isUnderflow() && decodificador.flush(caracteres).isUnderflow();
+                    break;
+                }
+                long cantidad = Math.min(TAMANO_VENTANA, tamano - siguienteVentana);
+                ventana = canal.map(FileChannel.MapMode.READ_ONLY, siguienteVentana, cantidad);
+                siguienteVentana += cantidad;
+            }
+            int cantidad = Math.min(bloque.remaining(), ventana.remaining());
+            bloque.put(bloque.position(), ventana, ventana.position(), cantidad);
+            bloque.position(bloque.position() + cantidad);
+            ventana.position(ventana.position() + cantidad);
+
+            bloque.flip();
+            decodificar(bloque, false);
+            // Los bytes que no cupieron o de una secuencia cortada por el final del bloque quedan
+            // para la siguiente vuelta
+            bloque.compact();
+        }
+        caracteres.flip();
+        return caracteres.hasRemaining();
+    }
+
+    private CoderResult decodificar(ByteBuffer entrada, boolean fin) throws IOException {
+        CoderResult resultado = decodificador.decode(entrada, caracteres, fin);
+        if (resultado.isError()) {
+            resultado.throwException();
+        }
+        return resultado;
+    }
+}
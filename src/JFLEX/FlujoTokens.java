@@ -0,0 +1,258 @@
+package JFLEX;
+
+import CUP.sym;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * Acceso a los tokens como flujo, sin guardarlos todos en memoria.
+ * <p>
+ * Funciona con cualquier fuente de tokens del parser: el {@link Lexer}, un flujo
+ * {@link TokensEmpaquetados} o {@link TokensGrabados}. Cada token se pide a la fuente solo cuando
+ * el consumidor lo necesita, así que un pipeline de estadísticas, resaltado de sintaxis o el
+ * mismo parser trabaja con memoria acotada. El fin de archivo no se entrega: el flujo termina ahí.
+ * </p>
+ * <p>
+ * La fuente se consume una sola vez. Los errores de lectura se entregan como
+ * {@link UncheckedIOException} en el iterador y en el {@code Stream}, y con {@code onError} en el
+ * publicador.
+ * </p>
+ */
+public final class FlujoTokens {
+
+    /** Cantidad de tokens que toma cada división del {@code Spliterator}. */
+    private static final int TAMANO_LOTE = 1024;
+
+    private FlujoTokens() {
+    }
+
+    /**
+     * Crea un iterador que pide cada token a la fuente al recorrerlo.
+     *
+     * @param fuente La fuente de tokens.
+     * @return El iterador de los tokens hasta el fin de archivo, sin incluirlo.
+     */
+    public static Iterator<Symbol> iterador(Scanner fuente) {
+        return new Iterator<Symbol>() {
+            private Symbol siguiente;
+            private boolean terminado;
+
+            @Override
+            public boolean hasNext() {
+                if (siguiente == null && !terminado) {
+                    Symbol token = leer(fuente);
+                    if (token.sym == sym.EOF) {
+                        terminado = true;
+                    } else {
+                        siguiente = token;
+                    }
+                }
+                return siguiente != null;
+            }
+
+            @Override
+            public Symbol next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Symbol token = siguiente;
+                siguiente = null;
+                return token;
+            }
+        };
+    }
+
+    /**
+     * Crea un {@code Spliterator} de los tokens. Al dividirse separa un lote de a lo sumo
+     * {@link #TAMANO_LOTE} tokens, que puede procesarse en otro hilo mientras esta parte sigue
+     * leyendo de la fuente; la memoria usada no depende del tamaño del archivo.
+     *
+     * @param fuente La fuente de tokens.
+     * @return El {@code Spliterator} ordenado de los tokens.
+     */
+    public static Spliterator<Symbol> spliterator(Scanner fuente) {
+        return new Spliterators.AbstractSpliterator<Symbol>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private boolean terminado;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super Symbol> accion) {
+                if (terminado) {
+                    return false;
+                }
+                Symbol token = leer(fuente);
+                if (token.sym == sym.EOF) {
+                    terminado = true;
+                    return false;
+                }
+                accion.accept(token);
+                return true;
+            }
+
+            @Override
+            public Spliterator<Symbol> trySplit() {
+                Symbol[] lote = new Symbol[TAMANO_LOTE];
+                int cantidad = 0;
+                while (cantidad < TAMANO_LOTE && !terminado) {
+                    Symbol token = leer(fuente);
+                    if (token.sym == sym.EOF) {
+                        terminado = true;
+                    } else {
+                        lote[cantidad++] = token;
+                    }
+                }
+                return cantidad == 0 ? null : Spliterators.spliterator(lote, 0, cantidad, Spliterator.ORDERED | Spliterator.NONNULL);
+            }
+        };
+    }
+
+    /**
+     * Crea un {@code Stream} secuencial de los tokens; con {@code parallel()} los lotes se
+     * procesan en paralelo mientras la fuente se sigue leyendo en orden.
+     *
+     * @param fuente La fuente de tokens.
+     * @return El {@code Stream} de los tokens.
+     */
+    public static Stream<Symbol> stream(Scanner fuente) {
+        return StreamSupport.stream(spliterator(fuente), false);
+    }
+
+    /**
+     * Crea un publicador de los tokens con control de demanda: la fuente solo se lee cuando el
+     * suscriptor pide más tokens con {@link Flow.Subscription#request}, así que un consumidor
+     * lento no acumula tokens pendientes. Los tokens se entregan en el ejecutor indicado, uno a
+     * la vez y en orden.
+     *
+     * @param fuente    La fuente de tokens.
+     * @param ejecutor  El ejecutor donde se lee la fuente y se entregan los tokens.
+     * @return El publicador, que acepta un solo suscriptor.
+     */
+    public static Flow.Publisher<Symbol> publicador(Scanner fuente, Executor ejecutor) {
+        AtomicBoolean suscrito = new AtomicBoolean();
+        return suscriptor -> {
+            if (!suscrito.compareAndSet(false, true)) {
+                suscriptor.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                suscriptor.onError(new IllegalStateException("La fuente de tokens ya tiene un suscriptor."));
+                return;
+            }
+            new Suscripcion(fuente, ejecutor, suscriptor).iniciar();
+        };
+    }
+
+    private static Symbol leer(Scanner fuente) {
+        try {
+            return fuente.next_token();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Suscripción del publicador. La demanda pendiente se acumula en un contador atómico; quien
+     * la lleva de cero a un valor positivo programa la entrega en el ejecutor, así que nunca hay
+     * dos entregas al mismo tiempo y la fuente se lee desde un solo hilo a la vez. Un pedido
+     * inválido también pasa por ahí: su error se guarda y lo entrega el ejecutor, nunca al mismo
+     * tiempo que un token.
+     */
+    private static final class Suscripcion implements Flow.Subscription {
+
+        private final Scanner fuente;
+        private final Executor ejecutor;
+        private final Flow.Subscriber<? super Symbol> suscriptor;
+        private final AtomicLong demanda = new AtomicLong();
+        private volatile boolean terminada;
+        private volatile Throwable errorPedido;
+
+        Suscripcion(Scanner fuente, Executor ejecutor, Flow.Subscriber<? super Symbol> suscriptor) {
+            this.fuente = fuente;
+            this.ejecutor = ejecutor;
+            this.suscriptor = suscriptor;
+        }
+
+        void iniciar() {
+            suscriptor.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            if (terminada) {
+                return;
+            }
+            if (n <= 0) {
+                errorPedido = new IllegalArgumentException("La cantidad pedida debe ser positiva: " + n);
+            }
+            // Un pedido inválido cuenta como uno, para que la entrega corra y encuentre el error
+            long pedida = n > 0 ? n : 1;
+            long anterior = demanda.getAndUpdate(d -> d + pedida < 0 ? Long.MAX_VALUE : d + pedida);
+            if (anterior == 0) {
+                ejecutor.execute(this::entregar);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            terminada = true;
+        }
+
+        private void entregar() {
+            long pedidos = demanda.get();
+            while (true) {
+                long entregados = 0;
+                while (entregados < pedidos) {
+                    if (terminada) {
+                        return;
+                    }
+                    if (errorPedido != null) {
+                        terminada = true;
+                        suscriptor.onError(errorPedido);
+                        return;
+                    }
+                    Symbol token;
+                    try {
+                        token = leer(fuente);
+                    } catch (RuntimeException e) {
+                        terminada = true;
+                        suscriptor.onError(e instanceof UncheckedIOException ? e.getCause() : e);
+                        return;
+                    }
+                    if (token.sym == sym.EOF) {
+                        terminada = true;
+                        suscriptor.onComplete();
+                        return;
+                    }
+                    suscriptor.onNext(token);
+                    entregados++;
+                }
+                // Si mientras tanto llegaron más pedidos se siguen entregando en este mismo hilo
+                pedidos = demanda.addAndGet(-entregados);
+                if (pedidos == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
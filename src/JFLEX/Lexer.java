@@ -7,6 +7,8 @@ package JFLEX;
 // Importaciones necesarias
 import java_cup.runtime.Symbol;
 import CUP.sym;
+import Clases.Identificadores;
+import Clases.CadenaFuente;
 
 // Asignacion de reglas
 
@@ -207,7 +209,7 @@ public class Lexer implements java_cup.runtime.Scanner {
   private static final int [] ZZ_TRANS = zzUnpacktrans();
 
   private static final String ZZ_TRANS_PACKED_0 =
-    "\1\2\1\3\1\4\1\0\1\5\1\6\1\7\1\10"+
+    "\1\2\1\3\1\4\1\2\1\5\1\6\1\7\1\10"+
     "\3\2\1\11\1\12\1\2\1\7\1\13\1\14\1\2"+
     "\1\15\2\2\1\16\1\17\1\20\1\21\1\22\1\23"+
     "\1\24\1\25\1\26\1\27\1\14\1\30\1\31\1\32"+
@@ -516,13 +518,14 @@ public class Lexer implements java_cup.runtime.Scanner {
   private int zzFinalHighSurrogate = 0;
 
   /** Number of newlines encountered up to the start of the matched text. */
+  @SuppressWarnings("unused")
   private int yyline;
 
   /** Number of characters from the last newline up to the start of the matched text. */
+  @SuppressWarnings("unused")
   private int yycolumn;
 
   /** Number of characters up to the start of the matched text. */
-  @SuppressWarnings("unused")
   private long yychar;
 
   /** Whether the scanner is currently at the beginning of a line. */
@@ -536,6 +539,38 @@ public class Lexer implements java_cup.runtime.Scanner {
 
 private boolean imprimirErrores = true;
 
+private Identificadores identificadores = new Identificadores();
+
+private static final Symbol TOKEN_EMPAQUETADO = new Symbol(-1);
+
+private TokensEmpaquetados empaquetados;
+
+private char[] fuente;
+
+private int longitudFuente;
+
+private static final Symbol FIN_FRAGMENTO = new Symbol(sym.EOF);
+
+private int limiteFragmento = Integer.MAX_VALUE;
+
+private DiagnosticosLexicos diagnosticos = new DiagnosticosLexicos();
+
+private TablaLineas lineas;
+
+private int lineaToken;
+
+private int inicioLineaFlujo;
+
+private int inicioBuffer;
+
+public void setIdentificadores(Identificadores identificadores) {
+    this.identificadores = identificadores;
+}
+
+public Identificadores getIdentificadores() {
+    return identificadores;
+}
+
 public void desactivarImpresionErrores() {
     imprimirErrores = false;
 }
@@ -544,12 +579,221 @@ public void activarImpresionErrores() {
     imprimirErrores = true;
 }
 
+/**
+ * Obtiene la línea del último token reconocido, buscándola en el índice de líneas o, si la entrada
+ * se lee desde un {@code Reader}, la que se lleva contando.
+ *
+ * @return La línea, comenzando en 0.
+ */
 public int getLine() {
-    return yyline;
+    return lineas == null ? lineaToken : lineas.indiceLinea(inicioToken());
+}
+
+/**
+ * Crea un lexer con la entrada completa en memoria, como necesitan el modo empaquetado y el
+ * incremental: lee todo el {@code Reader} y lo carga con {@link #cargarEntrada(char[], int)}.
+ *
+ * @param entrada El texto fuente; no se cierra.
+ * @return El lexer listo para entregar tokens.
+ * @throws java.io.IOException Si ocurre un error al leer.
+ */
+public static Lexer leerCompleto(java.io.Reader entrada) throws java.io.IOException {
+    char[] contenido = new char[ZZ_BUFFERSIZE];
+    int longitud = 0;
+    int leidos;
+    while ((leidos = entrada.read(contenido, longitud, contenido.length - longitud)) != -1) {
+        longitud += leidos;
+        if (longitud == contenido.length) {
+            contenido = java.util.Arrays.copyOf(contenido, contenido.length * 2);
+        }
+    }
+    Lexer lexer = new Lexer(java.io.Reader.nullReader());
+    lexer.cargarEntrada(contenido, longitud);
+    return lexer;
+}
+
+/**
+ * Usa como entrada un texto completo ya decodificado. El lexer lo lee con su recarga normal, así
+ * que el arreglo nunca se modifica, y las posiciones de los tokens y de los errores apuntan a él.
+ *
+ * @param contenido Los caracteres de la entrada.
+ * @param longitud  La cantidad de caracteres válidos en el arreglo.
+ */
+public void cargarEntrada(char[] contenido, int longitud) {
+    cargarEntrada(contenido, 0, longitud, new TablaLineas(contenido, longitud));
+}
+
+/**
+ * Usa como entrada el texto completo pero comienza el análisis en una posición intermedia.
+ * Lo usan el análisis en paralelo para cada fragmento y el incremental para la zona editada;
+ * como el lexer solo guarda posiciones, no necesita la línea ni la columna del inicio.
+ *
+ * @param contenido Los caracteres de la entrada, que pueden compartirse entre lexers.
+ * @param inicio    La posición donde comienza el análisis.
+ * @param longitud  La cantidad de caracteres válidos en el arreglo.
+ * @param lineas    El índice de líneas de la entrada, que puede compartirse entre lexers.
+ */
+void cargarEntrada(char[] contenido, int inicio, int longitud, TablaLineas lineas) {
+    yyreset(new java.io.CharArrayReader(contenido, inicio, longitud - inicio));
+    fuente = contenido;
+    longitudFuente = longitud;
+    inicioBuffer = inicio;
+    this.lineas = lineas;
+    lineaToken = 0;
+    diagnosticos = new DiagnosticosLexicos(contenido, lineas);
+    empaquetados = null;
+    limiteFragmento = Integer.MAX_VALUE;
+}
+
+/**
+ * Obtiene la posición en la entrada del token reconocido.
+ */
+private int inicioToken() {
+    return inicioBuffer + (int) yychar;
+}
+
+/**
+ * Sin la entrada completa no hay índice de líneas, así que al leer desde un {@code Reader} la línea
+ * actual se lleva contando los saltos del texto reconocido. Solo lo llaman las reglas cuyo texto
+ * puede contener saltos de línea; el resto no cambia de línea.
+ */
+private void contarLineas() {
+    if (lineas != null) {
+        return;
+    }
+    int base = inicioToken() - zzStartRead;
+    for (int i = zzStartRead; i < zzMarkedPos; i++) {
+        char c = zzBuffer[i];
+        if (c > '\r' && c != '\u0085' && c != '\u2028' && c != '\u2029') {
+            continue;
+        }
+        if (c == '\r' && i + 1 < zzMarkedPos && zzBuffer[i + 1] == '\n') {
+            i++;
+        } else if (!TablaLineas.esFinDeLinea(c)) {
+            continue;
+        }
+        lineaToken++;
+        inicioLineaFlujo = base + i + 1;
+    }
+}
+
+/**
+ * Cambia el lexer al modo empaquetado: desde ahora cada token se agrega a los arreglos del
+ * flujo devuelto en lugar de crear un {@code Symbol}, y {@code next_token} entrega un símbolo
+ * compartido hasta llegar al fin de archivo.
+ *
+ * @return El flujo donde se agregarán los tokens.
+ * @throws IllegalStateException Si la entrada no se cargó completa en memoria.
+ */
+TokensEmpaquetados empaquetar() {
+    if (fuente == null) {
+        throw new IllegalStateException("El modo empaquetado requiere la entrada completa en memoria.");
+    }
+    empaquetados = new TokensEmpaquetados(fuente, longitudFuente, longitudFuente - inicioToken(), lineas, identificadores);
+    return empaquetados;
+}
+
+/**
+ * Como {@link #empaquetar()}, pero el análisis termina con el primer token que comienza en el
+ * límite o después; la posición de ese token queda como punto de sincronización del flujo.
+ * Los errores léxicos se guardan en el flujo con su posición en lugar de imprimirse.
+ *
+ * @param limite La posición donde comienza el fragmento siguiente.
+ * @return El flujo donde se agregarán los tokens del fragmento.
+ */
+TokensEmpaquetados empaquetarFragmento(int limite) {
+    if (fuente == null) {
+        throw new IllegalStateException("El modo empaquetado requiere la entrada completa en memoria.");
+    }
+    empaquetados = new TokensEmpaquetados(fuente, longitudFuente, Math.min(limite, longitudFuente) - inicioToken(), lineas, identificadores);
+    empaquetados.registrarErrores();
+    limiteFragmento = limite;
+    return empaquetados;
+}
+
+/**
+ * Continúa un fragmento detenido en su punto de sincronización: agrega el token que quedó
+ * pendiente y sigue hasta el primer token que comience en el nuevo límite o después.
+ *
+ * @param limite El nuevo límite del fragmento.
+ */
+void extenderFragmento(int limite) {
+    empaquetados.agregarSincronizacion();
+    limiteFragmento = limite;
 }
 
+/**
+ * Construye el token reconocido. En modo empaquetado solo registra su tipo y posición;
+ * en modo normal crea el {@code Symbol} con su valor ya decodificado, y su línea y columna se
+ * buscan en el índice de líneas a partir de la línea del token anterior, o se toman de la línea
+ * que se lleva contando si la entrada se lee desde un {@code Reader}.
+ */
+private Symbol token(int tipo) {
+    int inicio = inicioToken();
+    int longitud = zzMarkedPos - zzStartRead;
+    if (diagnosticos.hayPendientes()) {
+        // Los errores anteriores a este token se imprimen antes de que aparezca en el reporte
+        diagnosticos.imprimirPendientes();
+    }
+    if (empaquetados != null) {
+        if (inicio >= limiteFragmento) {
+            empaquetados.sincronizar(tipo, inicio, longitud);
+            return FIN_FRAGMENTO;
+        }
+        empaquetados.agregar(tipo, inicio, longitud);
+        return TOKEN_EMPAQUETADO;
+    }
+    Object valor;
+    if (tipo == sym.STRING_LITERAL) {
+        // El buffer del lexer se recarga, así que la cadena solo puede apuntar a la entrada
+        // completa; leyendo de un Reader se copia
+        valor = fuente != null ? new CadenaFuente(fuente, inicio + 1, longitud - 2)
+                : new String(zzBuffer, zzStartRead + 1, longitud - 2);
+    } else {
+        valor = TokensEmpaquetados.decodificarValor(tipo, zzBuffer, zzStartRead, longitud, identificadores);
+    }
+    if (lineas == null) {
+        Symbol simbolo = new Symbol(tipo, lineaToken + 1, inicio - inicioLineaFlujo + 1, valor);
+        if (tipo == sym.STRING_LITERAL || tipo == sym.CHAR_LITERAL) {
+            contarLineas();
+        }
+        return simbolo;
+    }
+    lineaToken = lineas.indiceLinea(inicio, lineaToken);
+    return new Symbol(tipo, lineaToken + 1, inicio - lineas.inicioLinea(lineaToken) + 1, valor);
+}
+
+/**
+ * Reporta un error léxico. En un fragmento del análisis en paralelo o incremental se guarda en el
+ * flujo para imprimirlo después en orden. Si no, se guarda en el registro del lexer, que lo
+ * imprime antes del siguiente token; así los caracteres no reconocidos seguidos se reportan como
+ * un solo error.
+ *
+ * @param clase {@link DiagnosticosLexicos#CARACTER} o {@link DiagnosticosLexicos#PALABRA}.
+ */
+private void errorLexico(byte clase) {
+    int inicio = inicioToken();
+    int longitud = zzMarkedPos - zzStartRead;
+    if (empaquetados != null && empaquetados.registraErrores()) {
+        empaquetados.diagnosticos().agregar(clase, inicio, longitud);
+    } else if (imprimirErrores && lineas == null) {
+        // El texto puede salir del buffer antes de imprimirse, así que se copia con su posición
+        diagnosticos.agregar(clase, inicio, zzBuffer, zzStartRead, longitud, lineaToken + 1, inicio - inicioLineaFlujo + 1);
+    } else if (imprimirErrores) {
+        diagnosticos.agregar(clase, inicio, longitud);
+    }
+    contarLineas();
+}
+
+/**
+ * Obtiene la columna del último token reconocido, buscándola en el índice de líneas o, si la
+ * entrada se lee desde un {@code Reader}, desde el inicio de la línea que se lleva contando.
+ *
+ * @return La columna, comenzando en 0.
+ */
 public int getColumn() {
-    return yycolumn;
+    int inicio = inicioToken();
+    return lineas == null ? inicio - inicioLineaFlujo : inicio - lineas.inicioLinea(lineas.indiceLinea(inicio));
 }
 
 
@@ -821,6 +1065,8 @@ public int getColumn() {
     if (!zzEOFDone) {
       zzEOFDone = true;
     
+    diagnosticos.imprimirPendientes();
+    diagnosticos.imprimirResumen();
   yyclose();    }
   }
 
@@ -852,63 +1098,8 @@ public int getColumn() {
     while (true) {
       zzMarkedPosL = zzMarkedPos;
 
-      boolean zzR = false;
-      int zzCh;
-      int zzCharCount;
-      for (zzCurrentPosL = zzStartRead  ;
-           zzCurrentPosL < zzMarkedPosL ;
-           zzCurrentPosL += zzCharCount ) {
-        zzCh = Character.codePointAt(zzBufferL, zzCurrentPosL, zzMarkedPosL);
-        zzCharCount = Character.charCount(zzCh);
-        switch (zzCh) {
-        case '\u000B':  // fall through
-        case '\u000C':  // fall through
-        case '\u0085':  // fall through
-        case '\u2028':  // fall through
-        case '\u2029':
-          yyline++;
-          yycolumn = 0;
-          zzR = false;
-          break;
-        case '\r':
-          yyline++;
-          yycolumn = 0;
-          zzR = true;
-          break;
-        case '\n':
-          if (zzR)
-            zzR = false;
-          else {
-            yyline++;
-            yycolumn = 0;
-          }
-          break;
-        default:
-          zzR = false;
-          yycolumn += zzCharCount;
-        }
-      }
+      yychar+= zzMarkedPosL-zzStartRead;
 
-      if (zzR) {
-        // peek one character ahead if it is
-        // (if we have counted one line too much)
-        boolean zzPeek;
-        if (zzMarkedPosL < zzEndReadL)
-          zzPeek = zzBufferL[zzMarkedPosL] == '\n';
-        else if (zzAtEOF)
-          zzPeek = false;
-        else {
-          boolean eof = zzRefill();
-          zzEndReadL = zzEndRead;
-          zzMarkedPosL = zzMarkedPos;
-          zzBufferL = zzBuffer;
-          if (eof)
-            zzPeek = false;
-          else
-            zzPeek = zzBufferL[zzMarkedPosL] == '\n';
-        }
-        if (zzPeek) yyline--;
-      }
       zzAction = -1;
 
       zzCurrentPosL = zzCurrentPos = zzStartRead = zzMarkedPosL;
@@ -977,9 +1168,7 @@ public int getColumn() {
       else {
         switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
           case 1:
-            { if (imprimirErrores) {
-        System.err.println("Error léxico: " + yytext() + " en línea " + (yyline + 1) + ", columna " + (yycolumn + 1));
-    }
+            { errorLexico(DiagnosticosLexicos.CARACTER);
             }
           // fall through
           case 58: break;
@@ -989,7 +1178,7 @@ public int getColumn() {
           // fall through
           case 59: break;
           case 3:
-            { /* Saltar a la siguiente línea */
+            { /* Saltar a la siguiente línea */ contarLineas();
             }
           // fall through
           case 60: break;
@@ -1004,264 +1193,262 @@ public int getColumn() {
           // fall through
           case 62: break;
           case 6:
-            { return new Symbol(sym.COMMA, yyline + 1, yycolumn + 1);
+            { return token(sym.COMMA);
             }
           // fall through
           case 63: break;
           case 7:
-            { return new Symbol(sym.INT_LITERAL, yyline + 1, yycolumn + 1, Integer.parseInt(yytext()));
+            { return token(sym.INT_LITERAL);
             }
           // fall through
           case 64: break;
           case 8:
-            { if (imprimirErrores) {
-        System.err.println("Error léxico: \"" + yytext() + "\" en línea " + (yyline + 1) + ", columna " + (yycolumn + 1));
-    }
+            { errorLexico(DiagnosticosLexicos.PALABRA);
             }
           // fall through
           case 65: break;
           case 9:
-            { return new Symbol(sym.STRING_LITERAL, yyline + 1, yycolumn + 1, yytext().substring(1, yytext().length() - 1));
+            { return token(sym.STRING_LITERAL);
             }
           // fall through
           case 66: break;
           case 10:
-            { return new Symbol(sym.CHAR_LITERAL, yyline + 1, yycolumn + 1, yytext().charAt(1));
+            { return token(sym.CHAR_LITERAL);
             }
           // fall through
           case 67: break;
           case 11:
-            { return new Symbol(sym.FLOAT_LITERAL, yyline + 1, yycolumn + 1, Float.parseFloat(yytext()));
+            { return token(sym.FLOAT_LITERAL);
             }
           // fall through
           case 68: break;
           case 12:
-            { return new Symbol(sym.IDENTIFIER, yyline + 1, yycolumn + 1, yytext());
+            { return token(sym.IDENTIFIER);
             }
           // fall through
           case 69: break;
           case 13:
-            { /* Ignorar comentario multilínea */
+            { /* Ignorar comentario multilínea */ contarLineas();
             }
           // fall through
           case 70: break;
           case 14:
-            { return new Symbol(sym.IF, yyline + 1, yycolumn + 1);
+            { return token(sym.IF);
             }
           // fall through
           case 71: break;
           case 15:
-            { return new Symbol(sym.ELSE, yyline + 1, yycolumn + 1);
+            { return token(sym.ELSE);
             }
           // fall through
           case 72: break;
           case 16:
-            { return new Symbol(sym.EQUAL, yyline + 1, yycolumn + 1);
+            { return token(sym.EQUAL);
             }
           // fall through
           case 73: break;
           case 17:
-            { return new Symbol(sym.BOOL_LITERAL, yyline + 1, yycolumn + 1, Boolean.parseBoolean(yytext()));
+            { return token(sym.BOOL_LITERAL);
             }
           // fall through
           case 74: break;
           case 18:
-            { return new Symbol(sym.BREAK, yyline + 1, yycolumn + 1);
+            { return token(sym.BREAK);
             }
           // fall through
           case 75: break;
           case 19:
-            { return new Symbol(sym.RETURN, yyline + 1, yycolumn + 1);
+            { return token(sym.RETURN);
             }
           // fall through
           case 76: break;
           case 20:
-            { return new Symbol(sym.MODULO, yyline + 1, yycolumn + 1);
+            { return token(sym.MODULO);
             }
           // fall through
           case 77: break;
           case 21:
-            { return new Symbol(sym.PRINT, yyline + 1, yycolumn + 1);
+            { return token(sym.PRINT);
             }
           // fall through
           case 78: break;
           case 22:
-            { return new Symbol(sym.INCREMENT, yyline + 1, yycolumn + 1);
+            { return token(sym.INCREMENT);
             }
           // fall through
           case 79: break;
           case 23:
-            { return new Symbol(sym.DIVIDE, yyline + 1, yycolumn + 1);
+            { return token(sym.DIVIDE);
             }
           // fall through
           case 80: break;
           case 24:
-            { return new Symbol(sym.COLON, yyline + 1, yycolumn + 1);
+            { return token(sym.COLON);
             }
           // fall through
           case 81: break;
           case 25:
-            { return new Symbol(sym.STRING, yyline + 1, yycolumn + 1);
+            { return token(sym.STRING);
             }
           // fall through
           case 82: break;
           case 26:
-            { return new Symbol(sym.CHAR, yyline + 1, yycolumn + 1);
+            { return token(sym.CHAR);
             }
           // fall through
           case 83: break;
           case 27:
-            { return new Symbol(sym.FOR, yyline + 1, yycolumn + 1);
+            { return token(sym.FOR);
             }
           // fall through
           case 84: break;
           case 28:
-            { return new Symbol(sym.OR, yyline + 1, yycolumn + 1);
+            { return token(sym.OR);
             }
           // fall through
           case 85: break;
           case 29:
-            { return new Symbol(sym.DECREMENT, yyline + 1, yycolumn + 1);
+            { return token(sym.DECREMENT);
             }
           // fall through
           case 86: break;
           case 30:
-            { return new Symbol(sym.BOOL, yyline + 1, yycolumn + 1);
+            { return token(sym.BOOL);
             }
           // fall through
           case 87: break;
           case 31:
-            { return new Symbol(sym.DEFAULT, yyline + 1, yycolumn + 1);
+            { return token(sym.DEFAULT);
             }
           // fall through
           case 88: break;
           case 32:
-            { return new Symbol(sym.SWITCH, yyline + 1, yycolumn + 1);
+            { return token(sym.SWITCH);
             }
           // fall through
           case 89: break;
           case 33:
-            { return new Symbol(sym.ASSIGN, yyline + 1, yycolumn + 1);
+            { return token(sym.ASSIGN);
             }
           // fall through
           case 90: break;
           case 34:
-            { return new Symbol(sym.READ, yyline + 1, yycolumn + 1);
+            { return token(sym.READ);
             }
           // fall through
           case 91: break;
           case 35:
-            { return new Symbol(sym.AND, yyline + 1, yycolumn + 1);
+            { return token(sym.AND);
             }
           // fall through
           case 92: break;
           case 36:
-            { return new Symbol(sym.GREATER_THAN, yyline + 1, yycolumn + 1);
+            { return token(sym.GREATER_THAN);
             }
           // fall through
           case 93: break;
           case 37:
-            { return new Symbol(sym.PLUS, yyline + 1, yycolumn + 1);
+            { return token(sym.PLUS);
             }
           // fall through
           case 94: break;
           case 38:
-            { return new Symbol(sym.INTEGER, yyline + 1, yycolumn + 1);
+            { return token(sym.INTEGER);
             }
           // fall through
           case 95: break;
           case 39:
-            { return new Symbol(sym.GREATER_EQUAL, yyline + 1, yycolumn + 1);
+            { return token(sym.GREATER_EQUAL);
             }
           // fall through
           case 96: break;
           case 40:
-            { return new Symbol(sym.MAIN, yyline + 1, yycolumn + 1);
+            { return token(sym.MAIN);
             }
           // fall through
           case 97: break;
           case 41:
-            { return new Symbol(sym.POWER, yyline + 1, yycolumn + 1);
+            { return token(sym.POWER);
             }
           // fall through
           case 98: break;
           case 42:
-            { return new Symbol(sym.NOT, yyline + 1, yycolumn + 1);
+            { return token(sym.NOT);
             }
           // fall through
           case 99: break;
           case 43:
-            { return new Symbol(sym.FLOAT, yyline + 1, yycolumn + 1);
+            { return token(sym.FLOAT);
             }
           // fall through
           case 100: break;
           case 44:
-            { return new Symbol(sym.WHILE, yyline + 1, yycolumn + 1);
+            { return token(sym.WHILE);
             }
           // fall through
           case 101: break;
           case 45:
-            { return new Symbol(sym.CASE, yyline + 1, yycolumn + 1);
+            { return token(sym.CASE);
             }
           // fall through
           case 102: break;
           case 46:
-            { return new Symbol(sym.NOT_EQUAL, yyline + 1, yycolumn + 1);
+            { return token(sym.NOT_EQUAL);
             }
           // fall through
           case 103: break;
           case 47:
-            { return new Symbol(sym.LESS_THAN, yyline + 1, yycolumn + 1);
+            { return token(sym.LESS_THAN);
             }
           // fall through
           case 104: break;
           case 48:
-            { return new Symbol(sym.LESS_EQUAL, yyline + 1, yycolumn + 1);
+            { return token(sym.LESS_EQUAL);
             }
           // fall through
           case 105: break;
           case 49:
-            { return new Symbol(sym.END_STATEMENT, yyline + 1, yycolumn + 1);
+            { return token(sym.END_STATEMENT);
             }
           // fall through
           case 106: break;
           case 50:
-            { return new Symbol(sym.OPEN_BLOCK, yyline + 1, yycolumn + 1);
+            { return token(sym.OPEN_BLOCK);
             }
           // fall through
           case 107: break;
           case 51:
-            { return new Symbol(sym.OPEN_PAREN, yyline + 1, yycolumn + 1);
+            { return token(sym.OPEN_PAREN);
             }
           // fall through
           case 108: break;
           case 52:
-            { return new Symbol(sym.MULTIPLY, yyline + 1, yycolumn + 1);
+            { return token(sym.MULTIPLY);
             }
           // fall through
           case 109: break;
           case 53:
-            { return new Symbol(sym.OPEN_BRACKET, yyline + 1, yycolumn + 1);
+            { return token(sym.OPEN_BRACKET);
             }
           // fall through
           case 110: break;
           case 54:
-            { return new Symbol(sym.MINUS, yyline + 1, yycolumn + 1);
+            { return token(sym.MINUS);
             }
           // fall through
           case 111: break;
           case 55:
-            { return new Symbol(sym.CLOSE_BLOCK, yyline + 1, yycolumn + 1);
+            { return token(sym.CLOSE_BLOCK);
             }
           // fall through
           case 112: break;
           case 56:
-            { return new Symbol(sym.CLOSE_PAREN, yyline + 1, yycolumn + 1);
+            { return token(sym.CLOSE_PAREN);
             }
           // fall through
           case 113: break;
           case 57:
-            { return new Symbol(sym.CLOSE_BRACKET, yyline + 1, yycolumn + 1);
+            { return token(sym.CLOSE_BRACKET);
             }
           // fall through
           case 114: break;
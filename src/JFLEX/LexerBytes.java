@@ -0,0 +1,484 @@
+package JFLEX;
+
+import CUP.sym;
+import Clases.Identificadores;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Análisis léxico directo sobre los bytes UTF-8 de un archivo.
+ * <p>
+ * Todas las palabras reservadas, operadores, identificadores y números del lenguaje son ASCII, así
+ * que este analizador recorre los bytes sin decodificarlos y reconoce los tokens con las mismas
+ * reglas de {@code Lexer.jflex}, escritas a mano. Solo las secuencias de bytes no ASCII, que
+ * aparecen dentro de cadenas, caracteres y comentarios o como caracteres no reconocidos, se
+ * decodifican como UTF-8, con el mismo reemplazo de secuencias inválidas que
+ * {@link EntradaMapeada}.
+ * </p>
+ * <p>
+ * El resultado es un flujo {@link TokensEmpaquetados} igual al que produce el {@link Lexer} sobre
+ * el mismo archivo: los caracteres se copian al texto fuente del flujo a medida que se consumen,
+ * y las posiciones, los valores y los errores léxicos guardados son los mismos. Cualquier cambio
+ * en las reglas de {@code Lexer.jflex} tiene que repetirse aquí.
+ * </p>
+ */
+public final class LexerBytes {
+
+    /**
+     * Texto que reconoce la primera regla de cadenas de {@code Lexer.jflex}: como está entre
+     * comillas en la especificación, JFlex lo toma como texto literal y no como expresión regular.
+     */
+    private static final byte[] CADENA_LITERAL = "\"([^\"\\\\]|\\\\.)*\"".getBytes(StandardCharsets.US_ASCII);
+
+    private static final String[] PALABRAS = {
+            "_verano_", "rodolfo", "bromista", "trueno", "cupido", "cometa",
+            "abrecuento", "cierracuento", "abreempaque", "cierraempaque", "abreregalo", "cierraregalo",
+            "entrega", "finregalo", "navidad", "intercambio", "reyes", "nochebuena", "magos", "adviento",
+            "quien", "grinch", "snowball", "evergreen", "minstix", "upatree", "mary", "openslae",
+            "melchor", "gaspar", "baltazar", "elfo", "hada", "envuelve", "duende", "varios", "historia",
+            "ultimo", "corta", "envia", "sigue", "narra", "escucha", "true", "false"
+    };
+
+    private static final int[] TIPOS_PALABRAS = {
+            sym.MAIN, sym.INTEGER, sym.FLOAT, sym.BOOL, sym.CHAR, sym.STRING,
+            sym.OPEN_BLOCK, sym.CLOSE_BLOCK, sym.OPEN_BRACKET, sym.CLOSE_BRACKET, sym.OPEN_PAREN, sym.CLOSE_PAREN,
+            sym.ASSIGN, sym.END_STATEMENT, sym.PLUS, sym.MINUS, sym.DIVIDE, sym.MULTIPLY, sym.MODULO, sym.POWER,
+            sym.INCREMENT, sym.DECREMENT, sym.LESS_THAN, sym.LESS_EQUAL, sym.GREATER_THAN, sym.GREATER_EQUAL, sym.EQUAL, sym.NOT_EQUAL,
+            sym.AND, sym.OR, sym.NOT, sym.IF, sym.ELSE, sym.WHILE, sym.FOR, sym.SWITCH, sym.CASE,
+            sym.DEFAULT, sym.BREAK, sym.RETURN, sym.COLON, sym.PRINT, sym.READ, sym.BOOL_LITERAL, sym.BOOL_LITERAL
+    };
+
+    /** Tabla de dispersión de las palabras reservadas, por su longitud y algunos de sus bytes. */
+    private static final int TAMANO_TABLA = 256;
+    private static final byte[][] TABLA_PALABRAS = new byte[TAMANO_TABLA][];
+    private static final int[] TABLA_TIPOS = new int[TAMANO_TABLA];
+
+    static {
+        for (int p = 0; p < PALABRAS.length; p++) {
+            byte[] palabra = PALABRAS[p].getBytes(StandardCharsets.US_ASCII);
+            int indice = dispersion(palabra, 0, palabra.length);
+            while (TABLA_PALABRAS[indice] != null) {
+                indice = (indice + 1) & (TAMANO_TABLA - 1);
+            }
+            TABLA_PALABRAS[indice] = palabra;
+            TABLA_TIPOS[indice] = TIPOS_PALABRAS[p];
+        }
+    }
+
+    private final byte[] bytes;
+    private final int fin;
+    private final CharsetDecoder decodificador = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private int posicion;
+    private char[] fuente;
+    private int escritos;
+    private TokensEmpaquetados tokens;
+    private DiagnosticosLexicos diagnosticos;
+
+    private LexerBytes(byte[] bytes, int inicio, int fin) {
+        this.bytes = bytes;
+        this.posicion = inicio;
+        this.fin = fin;
+    }
+
+    /**
+     * Analiza un archivo completo a partir de sus bytes UTF-8.
+     *
+     * @param entrada         Los bytes del archivo, desde la posición hasta el límite del buffer.
+     * @param identificadores La tabla donde se internan los identificadores al consumir el flujo.
+     * @return Los tokens del archivo, con sus errores léxicos guardados para
+     *         {@link TokensEmpaquetados#reproducir}.
+     */
+    public static TokensEmpaquetados analizar(ByteBuffer entrada, Identificadores identificadores) {
+        LexerBytes lexer;
+        if (entrada.hasArray()) {
+            int desplazamiento = entrada.arrayOffset();
+            lexer = new LexerBytes(entrada.array(), desplazamiento + entrada.position(), desplazamiento + entrada.limit());
+        } else {
+            byte[] copia = new byte[entrada.remaining()];
+            entrada.get(entrada.position(), copia);
+            lexer = new LexerBytes(copia, 0, copia.length);
+        }
+        return lexer.analizar(identificadores);
+    }
+
+    private TokensEmpaquetados analizar(Identificadores identificadores) {
+        int caracteres = contarCaracteres();
+        fuente = new char[caracteres];
+        tokens = new TokensEmpaquetados(fuente, caracteres, caracteres, new TablaLineas(fuente, caracteres), identificadores);
+        tokens.registrarErrores();
+        diagnosticos = tokens.diagnosticos();
+
+        while (posicion < fin) {
+            byte b = bytes[posicion];
+            switch (b) {
+                case ' ':
+                case '\t':
+                    ignorar(saltar(posicion + 1, ' ', '\t'));
+                    break;
+                case '\r':
+                case '\n':
+                    ignorar(saltar(posicion + 1, '\r', '\n'));
+                    break;
+                case '$':
+                case '%':
+                case '&':
+                case '/':
+                    ignorar(posicion + 1);
+                    break;
+                case '-':
+                    if (posicion + 1 < fin && esDigito(bytes[posicion + 1])) {
+                        numero();
+                    } else {
+                        error(DiagnosticosLexicos.CARACTER, posicion + 1);
+                    }
+                    break;
+                case ',':
+                    token(sym.COMMA, posicion + 1);
+                    break;
+                case '_':
+                    identificador();
+                    break;
+                case '\'':
+                    caracter();
+                    break;
+                case '"':
+                    cadena();
+                    break;
+                case '#':
+                    comentarioLinea();
+                    break;
+                case '\\':
+                    comentarioBloque();
+                    break;
+                default:
+                    if (esDigito(b)) {
+                        numero();
+                    } else if (esLetra(b)) {
+                        palabra();
+                    } else if (b < 0) {
+                        noAscii();
+                    } else {
+                        error(DiagnosticosLexicos.CARACTER, posicion + 1);
+                    }
+                    break;
+            }
+        }
+        return tokens;
+    }
+
+    /** {@code -?[0-9]+} y {@code -?[0-9]+\.[0-9]+}. */
+    private void numero() {
+        int hasta = saltarDigitos(posicion + 1);
+        if (hasta + 1 < fin && bytes[hasta] == '.' && esDigito(bytes[hasta + 1])) {
+            token(sym.FLOAT_LITERAL, saltarDigitos(hasta + 2));
+        } else {
+            token(sym.INT_LITERAL, hasta);
+        }
+    }
+
+    /** Las palabras reservadas y {@code [a-zA-Z][a-zA-Z0-9_]*}, que es un error léxico. */
+    private void palabra() {
+        int hasta = posicion + 1;
+        while (hasta < fin && (esLetraODigito(bytes[hasta]) || bytes[hasta] == '_')) {
+            hasta++;
+        }
+        int tipo = buscarPalabra(posicion, hasta - posicion);
+        if (tipo >= 0) {
+            token(tipo, hasta);
+        } else {
+            error(DiagnosticosLexicos.PALABRA, hasta);
+        }
+    }
+
+    /** {@code _([a-zA-Z0-9]+)_}, o {@code _verano_}. */
+    private void identificador() {
+        int hasta = posicion + 1;
+        while (hasta < fin && esLetraODigito(bytes[hasta])) {
+            hasta++;
+        }
+        if (hasta == posicion + 1 || hasta == fin || bytes[hasta] != '_') {
+            error(DiagnosticosLexicos.CARACTER, posicion + 1);
+            return;
+        }
+        hasta++;
+        token(buscarPalabra(posicion, hasta - posicion) == sym.MAIN ? sym.MAIN : sym.IDENTIFIER, hasta);
+    }
+
+    /** {@code '[^']'}: un solo carácter Unicode entre comillas simples. */
+    private void caracter() {
+        int contenido = posicion + 1;
+        if (contenido < fin && bytes[contenido] >= 0) {
+            if (bytes[contenido] != '\'' && contenido + 1 < fin && bytes[contenido + 1] == '\'') {
+                token(sym.CHAR_LITERAL, contenido + 2);
+                return;
+            }
+        } else if (contenido < fin) {
+            int finSecuencia = finNoAscii(contenido);
+            if (finSecuencia < fin && bytes[finSecuencia] == '\'') {
+                // Se decodifica para saber si los bytes forman un solo carácter
+                int inicio = escritos;
+                fuente[escritos++] = '\'';
+                decodificar(contenido, finSecuencia);
+                int codigo = Character.codePointAt(fuente, inicio + 1, escritos);
+                if (inicio + 1 + Character.charCount(codigo) == escritos) {
+                    fuente[escritos++] = '\'';
+                    posicion = finSecuencia + 1;
+                    tokens.agregar(sym.CHAR_LITERAL, inicio, escritos - inicio);
+                    return;
+                }
+                escritos = inicio;
+            }
+        }
+        error(DiagnosticosLexicos.CARACTER, posicion + 1);
+    }
+
+    /** {@code \"[^\"]*\"} y el texto literal de {@link #CADENA_LITERAL}. */
+    private void cadena() {
+        int cierre = posicion + 1;
+        while (cierre < fin && bytes[cierre] != '"') {
+            cierre++;
+        }
+        int longitud = cierre < fin ? cierre + 1 - posicion : 0;
+        if (comienzaCon(posicion, CADENA_LITERAL)) {
+            longitud = Math.max(longitud, CADENA_LITERAL.length);
+        }
+        if (longitud == 0) {
+            error(DiagnosticosLexicos.CARACTER, posicion + 1);
+        } else {
+            token(sym.STRING_LITERAL, posicion + longitud);
+        }
+    }
+
+    /**
+     * {@code "#".*}: el comentario termina antes del primer salto de línea. Los saltos
+     * {@code \u0085}, {@code \u2028} y {@code \u2029} no son ASCII, así que las secuencias no ASCII
+     * del comentario se decodifican para buscarlos.
+     */
+    private void comentarioLinea() {
+        int actual = posicion + 1;
+        while (actual < fin) {
+            byte b = bytes[actual];
+            if (b == '\n' || b == '\r' || b == 0x0B || b == 0x0C) {
+                break;
+            }
+            if (b >= 0) {
+                actual++;
+                continue;
+            }
+            ignorar(actual);
+            int finSecuencia = finNoAscii(actual);
+            int inicio = escritos;
+            decodificar(actual, finSecuencia);
+            posicion = finSecuencia;
+            for (int i = inicio; i < escritos; i++) {
+                if (TablaLineas.esFinDeLinea(fuente[i])) {
+                    // El salto y el resto de la secuencia son caracteres no reconocidos
+                    erroresNoAscii(i);
+                    return;
+                }
+            }
+            actual = finSecuencia;
+        }
+        ignorar(actual);
+    }
+
+    /**
+     * {@code "\_"([^\\_]|(\\_([^\\_]|\\n)*\\_))*"_/"}: dentro del comentario solo puede haber
+     * {@code \_} como inicio o fin de un bloque anidado y, dentro de ese bloque, {@code \n} como
+     * texto. Si no se cierra, solo la barra es un error léxico.
+     */
+    private void comentarioBloque() {
+        int actual = posicion + 1;
+        if (actual < fin && bytes[actual] == '_') {
+            boolean anidado = false;
+            actual++;
+            while (actual < fin) {
+                byte b = bytes[actual];
+                byte siguiente = actual + 1 < fin ? bytes[actual + 1] : 0;
+                if (b == '_') {
+                    if (anidado || siguiente != '/') {
+                        break;
+                    }
+                    ignorar(actual + 2);
+                    return;
+                }
+                if (b == '\\') {
+                    if (siguiente == '_') {
+                        anidado = !anidado;
+                    } else if (!anidado || siguiente != 'n') {
+                        break;
+                    }
+                    actual += 2;
+                } else {
+                    actual++;
+                }
+            }
+        }
+        error(DiagnosticosLexicos.CARACTER, posicion + 1);
+    }
+
+    /** {@code [^]} sobre una secuencia de bytes no ASCII: un error por cada carácter Unicode. */
+    private void noAscii() {
+        int finSecuencia = finNoAscii(posicion);
+        int inicio = escritos;
+        decodificar(posicion, finSecuencia);
+        posicion = finSecuencia;
+        erroresNoAscii(inicio);
+    }
+
+    private void erroresNoAscii(int desde) {
+        for (int i = desde; i < escritos; ) {
+            int longitud = Character.charCount(Character.codePointAt(fuente, i, escritos));
+            diagnosticos.agregar(DiagnosticosLexicos.CARACTER, i, longitud);
+            i += longitud;
+        }
+    }
+
+    private void token(int tipo, int hasta) {
+        int inicio = escritos;
+        copiar(hasta);
+        tokens.agregar(tipo, inicio, escritos - inicio);
+    }
+
+    private void error(byte clase, int hasta) {
+        int inicio = escritos;
+        copiar(hasta);
+        diagnosticos.agregar(clase, inicio, escritos - inicio);
+    }
+
+    private void ignorar(int hasta) {
+        copiar(hasta);
+    }
+
+    /**
+     * Copia al texto fuente los bytes consumidos hasta una posición: los ASCII directamente y las
+     * secuencias no ASCII decodificadas.
+     */
+    private void copiar(int hasta) {
+        int actual = posicion;
+        while (actual < hasta) {
+            byte b = bytes[actual];
+            if (b >= 0) {
+                fuente[escritos++] = (char) b;
+                actual++;
+            } else {
+                int finSecuencia = Math.min(finNoAscii(actual), hasta);
+                decodificar(actual, finSecuencia);
+                actual = finSecuencia;
+            }
+        }
+        posicion = hasta;
+    }
+
+    /**
+     * Decodifica una secuencia de bytes no ASCII al final del texto fuente. Un byte ASCII nunca
+     * forma parte de una secuencia UTF-8 de varios bytes, así que decodificar cada secuencia por
+     * separado da los mismos caracteres que decodificar el archivo completo.
+     */
+    private void decodificar(int desde, int hasta) {
+        CharBuffer salida = CharBuffer.wrap(fuente, escritos, fuente.length - escritos);
+        decodificador.reset();
+        decodificador.decode(ByteBuffer.wrap(bytes, desde, hasta - desde), salida, true);
+        decodificador.flush(salida);
+        escritos = salida.position();
+    }
+
+    /**
+     * Cuenta los caracteres del archivo para reservar el texto fuente: uno por byte ASCII, y las
+     * secuencias no ASCII se decodifican en un buffer temporal.
+     */
+    private int contarCaracteres() {
+        int total = 0;
+        CharBuffer temporal = CharBuffer.allocate(16);
+        for (int actual = posicion; actual < fin; ) {
+            if (bytes[actual] >= 0) {
+                total++;
+                actual++;
+                continue;
+            }
+            int finSecuencia = finNoAscii(actual);
+            if (temporal.capacity() < finSecuencia - actual) {
+                temporal = CharBuffer.allocate(finSecuencia - actual);
+            }
+            temporal.clear();
+            decodificador.reset();
+            decodificador.decode(ByteBuffer.wrap(bytes, actual, finSecuencia - actual), temporal, true);
+            decodificador.flush(temporal);
+            total += temporal.position();
+            actual = finSecuencia;
+        }
+        return total;
+    }
+
+    private int finNoAscii(int desde) {
+        int actual = desde;
+        while (actual < fin && bytes[actual] < 0) {
+            actual++;
+        }
+        return actual;
+    }
+
+    private int saltar(int desde, char a, char b) {
+        int actual = desde;
+        while (actual < fin && (bytes[actual] == a || bytes[actual] == b)) {
+            actual++;
+        }
+        return actual;
+    }
+
+    private int saltarDigitos(int desde) {
+        int actual = desde;
+        while (actual < fin && esDigito(bytes[actual])) {
+            actual++;
+        }
+        return actual;
+    }
+
+    private boolean comienzaCon(int desde, byte[] texto) {
+        if (fin - desde < texto.length) {
+            return false;
+        }
+        for (int i = 0; i < texto.length; i++) {
+            if (bytes[desde + i] != texto[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Busca una palabra reservada.
+     *
+     * @return El tipo del token, o -1 si no es una palabra reservada.
+     */
+    private int buscarPalabra(int desde, int longitud) {
+        for (int indice = dispersion(bytes, desde, longitud); TABLA_PALABRAS[indice] != null; indice = (indice + 1) & (TAMANO_TABLA - 1)) {
+            byte[] palabra = TABLA_PALABRAS[indice];
+            if (palabra.length == longitud && comienzaCon(desde, palabra)) {
+                return TABLA_TIPOS[indice];
+            }
+        }
+        return -1;
+    }
+
+    private static int dispersion(byte[] texto, int desde, int longitud) {
+        return (longitud * 31 + texto[desde] * 7 + texto[desde + longitud - 1] * 3 + texto[desde + (longitud >> 1)]) & (TAMANO_TABLA - 1);
+    }
+
+    private static boolean esDigito(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean esLetra(byte b) {
+        return (b >= 'a' && b <= 'z') || (b >= 'A' && b <= 'Z');
+    }
+
+    private static boolean esLetraODigito(byte b) {
+        return esLetra(b) || esDigito(b);
+    }
+}
@@ -0,0 +1,136 @@
+package JFLEX;
+
+import CUP.sym;
+import Clases.Identificadores;
+import java.io.IOException;
+
+/**
+ * Análisis léxico incremental para flujos de edición.
+ * <p>
+ * Después de una edición pequeña no se vuelve a analizar todo el texto: se reutiliza el flujo de
+ * tokens anterior y solo se analiza la zona dañada con el mismo {@link Lexer} generado, reiniciado
+ * con {@code yyreset} sobre esa parte del texto. El análisis vuelve a comenzar en el último token
+ * anterior a la línea editada y se detiene en cuanto un token nuevo posterior a la edición
+ * comienza donde comenzaba un token anterior; desde ahí los tokens anteriores se reutilizan con
+ * sus posiciones desplazadas. El índice de líneas también se actualiza solo en la zona editada.
+ * </p>
+ * <p>
+ * La línea editada se vuelve a analizar completa porque las reglas del lexer pueden leer por
+ * adelantado hasta el final de la línea (por ejemplo la de cadenas con {@code .*}). La única
+ * lectura más larga es la de un comentario {@code \_} o una cadena sin cerrar, que termina en un
+ * error léxico en su primer carácter; si hay uno antes de la edición, el análisis comienza antes
+ * de él, porque la edición puede cerrarlo.
+ * </p>
+ */
+public class LexerIncremental {
+
+    private final Lexer lexer;
+    private final Identificadores identificadores;
+
+    /**
+     * Crea el analizador incremental.
+     *
+     * @param identificadores La tabla donde se internan los identificadores.
+     */
+    public LexerIncremental(Identificadores identificadores) {
+        this.lexer = new Lexer(java.io.Reader.nullReader());
+        this.identificadores = identificadores;
+        lexer.setIdentificadores(identificadores);
+    }
+
+    /**
+     * Analiza un texto completo. Los errores léxicos quedan guardados en el flujo, que luego
+     * puede pasarse a {@link #reanalizar}.
+     *
+     * @param fuente   Los caracteres del texto.
+     * @param longitud La cantidad de caracteres válidos en el arreglo.
+     * @return Los tokens del texto.
+     * @throws IOException Si ocurre un error al analizar la entrada.
+     */
+    public TokensEmpaquetados analizar(char[] fuente, int longitud) throws IOException {
+        lexer.cargarEntrada(fuente, 0, longitud, new TablaLineas(fuente, longitud));
+        TokensEmpaquetados tokens = lexer.empaquetarFragmento(Integer.MAX_VALUE);
+        while (lexer.next_token().sym != sym.EOF) {
+            // Los tokens se agregan al flujo desde las acciones del lexer
+        }
+        return tokens;
+    }
+
+    /**
+     * Actualiza un flujo de tokens después de reemplazar una parte del texto.
+     *
+     * @param anterior           El flujo del texto antes de la edición.
+     * @param fuente             El texto completo después de la edición.
+     * @param longitud           La cantidad de caracteres válidos en el arreglo.
+     * @param inicioEdicion      La posición donde comienza la edición.
+     * @param longitudEliminada  La cantidad de caracteres del texto anterior que se reemplazaron.
+     * @param longitudInsertada  La cantidad de caracteres nuevos en su lugar.
+     * @return El flujo del texto editado.
+     * @throws IOException Si ocurre un error al analizar la entrada.
+     * @throws IllegalArgumentException Si la edición no corresponde con las longitudes de los textos.
+     */
+    public TokensEmpaquetados reanalizar(TokensEmpaquetados anterior, char[] fuente, int longitud,
+                                         int inicioEdicion, int longitudEliminada, int longitudInsertada) throws IOException {
+        int desplazamiento = longitudInsertada - longitudEliminada;
+        if (anterior.longitudFuente() + desplazamiento != longitud || inicioEdicion < 0
+                || inicioEdicion + longitudEliminada > anterior.longitudFuente()) {
+            throw new IllegalArgumentException("La edición no corresponde con el texto anterior.");
+        }
+        if (!anterior.registraErrores()) {
+            // Sin los errores guardados no se pueden ubicar los comentarios sin cerrar
+            return analizar(fuente, longitud);
+        }
+
+        // El texto anterior a la edición es el mismo en los dos buffers
+        int inicioLinea = inicioEdicion;
+        while (inicioLinea > 0 && !TablaLineas.esFinDeLinea(fuente[inicioLinea - 1])) {
+            inicioLinea--;
+        }
+        int reinicio = anterior.buscarToken(inicioLinea) - 1;
+        busqueda:
+        for (int e = 0; e < anterior.cantidadErrores() && anterior.posicionError(e) < inicioEdicion; e++) {
+            // Un error puede ser una serie de caracteres no reconocidos; se revisa completa
+            int fin = Math.min(anterior.posicionError(e) + anterior.longitudError(e), inicioEdicion);
+            for (int i = anterior.posicionError(e); i < fin; i++) {
+                if (fuente[i] == '"' || fuente[i] == '\\') {
+                    reinicio = Math.min(reinicio, anterior.buscarToken(anterior.posicionError(e)) - 1);
+                    break busqueda;
+                }
+            }
+        }
+
+        int inicio = reinicio < 0 ? 0 : anterior.inicio(reinicio);
+        TablaLineas lineas = TablaLineas.editar(anterior.tablaLineas(), fuente, longitud,
+                inicioEdicion, longitudEliminada, longitudInsertada);
+
+        // Se analiza hasta el primer token nuevo posterior a la edición que coincide con uno anterior
+        int finEdicion = inicioEdicion + longitudInsertada;
+        lexer.cargarEntrada(fuente, inicio, longitud, lineas);
+        TokensEmpaquetados nuevos = lexer.empaquetarFragmento(finEdicion);
+        int coincidencia = anterior.cantidad();
+        while (true) {
+            while (lexer.next_token().sym != sym.EOF) {
+                // Los tokens se agregan al flujo desde las acciones del lexer
+            }
+            int sincronizacion = nuevos.sincronizacion();
+            if (sincronizacion == longitud) {
+                break;
+            }
+            int indice = anterior.buscarToken(sincronizacion - desplazamiento);
+            if (indice < anterior.cantidad() && anterior.inicio(indice) == sincronizacion - desplazamiento) {
+                coincidencia = indice;
+                break;
+            }
+            lexer.extenderFragmento(sincronizacion + 1);
+        }
+
+        TokensEmpaquetados resultado = new TokensEmpaquetados(fuente, longitud, longitud, lineas, identificadores);
+        resultado.registrarErrores();
+        resultado.anexar(anterior, 0, Math.max(reinicio, 0), 0, inicio, 0);
+        resultado.anexar(nuevos, 0, nuevos.cantidad(), 0, Integer.MAX_VALUE, 0);
+        if (coincidencia < anterior.cantidad()) {
+            resultado.anexar(anterior, coincidencia, anterior.cantidad(), anterior.inicio(coincidencia), Integer.MAX_VALUE, desplazamiento);
+        }
+        return resultado;
+    }
+}
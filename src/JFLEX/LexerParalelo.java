@@ -0,0 +1,171 @@
+package JFLEX;
+
+import Clases.Identificadores;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Análisis léxico en paralelo de archivos grandes.
+ * <p>
+ * El texto se divide en fragmentos que comienzan al inicio de una línea y cada fragmento se
+ * analiza con su propio lexer en un {@link ForkJoinPool}, en modo empaquetado. Un corte puede caer
+ * dentro de un comentario {@code \_ ... _/} o de un literal que ocupa varias líneas, así que el
+ * lexer de cada fragmento sigue leyendo pasado su final hasta el primer token que comienza en el
+ * fragmento siguiente. Esa posición es donde el análisis secuencial retomaría, y el fragmento
+ * siguiente solo es válido si tiene un token exactamente ahí; sus tokens anteriores a ese punto
+ * se descartan. Si no lo tiene, ese fragmento se vuelve a analizar desde el punto de
+ * sincronización.
+ * </p>
+ * <p>
+ * Los tokens solo guardan su posición, así que los fragmentos no necesitan saber en qué línea
+ * comienzan: todos comparten la misma {@link TablaLineas}, que se construye después, la primera
+ * vez que se consulta una línea al consumir el flujo unido.
+ * </p>
+ * <p>
+ * Los lexers de los fragmentos no internan identificadores, porque la tabla de
+ * {@link Identificadores} no es segura entre hilos; los valores se decodifican después, al
+ * consumir el flujo unido.
+ * </p>
+ */
+public final class LexerParalelo {
+
+    /** Tamaño mínimo de un fragmento; los archivos más pequeños se analizan de forma secuencial. */
+    private static final int TAMANO_MINIMO_FRAGMENTO = 1 << 20;
+
+    private LexerParalelo() {
+    }
+
+    /**
+     * Analiza un texto completo, en paralelo si es lo bastante grande.
+     *
+     * @param fuente          Los caracteres de la entrada.
+     * @param longitud        La cantidad de caracteres válidos en el arreglo.
+     * @param identificadores La tabla donde se internan los identificadores al consumir el flujo.
+     * @param pool            El pool donde se analizan los fragmentos.
+     * @return Los tokens del archivo en orden, con sus errores léxicos guardados para
+     *         {@link TokensEmpaquetados#reproducir}.
+     * @throws IOException Si ocurre un error al analizar la entrada.
+     */
+    public static TokensEmpaquetados analizar(char[] fuente, int longitud, Identificadores identificadores, ForkJoinPool pool) throws IOException {
+        int[] cortes = buscarCortes(fuente, longitud, pool.getParallelism());
+        int fragmentos = cortes.length - 1;
+        if (fragmentos < 2) {
+            return analizarSecuencial(fuente, longitud, identificadores);
+        }
+
+        TablaLineas lineas = new TablaLineas(fuente, longitud);
+        ArrayList<RecursiveTask<TokensEmpaquetados>> tareas = new ArrayList<>(fragmentos);
+        for (int f = 0; f < fragmentos; f++) {
+            int inicio = cortes[f];
+            int limite = cortes[f + 1];
+            tareas.add(tarea(() -> analizarFragmento(fuente, inicio, limite, longitud, lineas, identificadores)));
+        }
+        for (RecursiveTask<TokensEmpaquetados> tarea : tareas) {
+            pool.execute(tarea);
+        }
+        TokensEmpaquetados[] resultados = new TokensEmpaquetados[fragmentos];
+        try {
+            for (int f = 0; f < fragmentos; f++) {
+                resultados[f] = tareas.get(f).join();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // Cada fragmento continúa desde el punto de sincronización del anterior
+        ArrayList<TokensEmpaquetados> usados = new ArrayList<>(fragmentos);
+        int[] desde = new int[fragmentos];
+        int[] inicioErrores = new int[fragmentos];
+        TokensEmpaquetados anterior = null;
+        for (int f = 0; f < fragmentos; f++) {
+            int inicio = anterior == null ? 0 : anterior.sincronizacion();
+            if (inicio == longitud) {
+                // El resto del archivo no tiene tokens, por ejemplo por un comentario sin cerrar
+                break;
+            }
+            if (inicio >= cortes[f + 1]) {
+                // El fragmento anterior ya cubrió este completo, por ejemplo con un comentario largo
+                continue;
+            }
+            TokensEmpaquetados fragmento = resultados[f];
+            int indice = fragmento.buscarToken(inicio);
+            if (anterior != null && (indice == fragmento.cantidad() || fragmento.inicio(indice) != inicio)) {
+                // El corte cayó dentro de un comentario o literal y el fragmento no se reencontró
+                // con el análisis secuencial: se vuelve a analizar desde el punto de sincronización
+                fragmento = analizarFragmento(fuente, inicio, cortes[f + 1], longitud, lineas, identificadores);
+                indice = 0;
+            }
+            desde[usados.size()] = indice;
+            inicioErrores[usados.size()] = inicio;
+            usados.add(fragmento);
+            anterior = fragmento;
+        }
+        return TokensEmpaquetados.unir(usados, desde, inicioErrores);
+    }
+
+    /**
+     * Elige los cortes: un fragmento por hilo del pool, cada uno de al menos
+     * {@link #TAMANO_MINIMO_FRAGMENTO} caracteres, comenzando justo después de un salto de línea.
+     *
+     * @return Las posiciones de inicio de cada fragmento, seguidas de la longitud del texto.
+     */
+    private static int[] buscarCortes(char[] fuente, int longitud, int hilos) {
+        int fragmentos = Math.max(1, Math.min(hilos, longitud / TAMANO_MINIMO_FRAGMENTO));
+        int[] cortes = new int[fragmentos + 1];
+        int cantidad = 1;
+        for (int f = 1; f < fragmentos; f++) {
+            int posicion = (int) ((long) longitud * f / fragmentos);
+            posicion = Math.max(posicion, cortes[cantidad - 1] + 1);
+            while (posicion < longitud && fuente[posicion - 1] != '\n') {
+                posicion++;
+            }
+            if (posicion < longitud) {
+                cortes[cantidad++] = posicion;
+            }
+        }
+        cortes[cantidad++] = longitud;
+        if (cantidad < cortes.length) {
+            int[] usados = new int[cantidad];
+            System.arraycopy(cortes, 0, usados, 0, cantidad);
+            return usados;
+        }
+        return cortes;
+    }
+
+    private static TokensEmpaquetados analizarFragmento(char[] fuente, int inicio, int limite, int longitud, TablaLineas lineas, Identificadores identificadores) throws IOException {
+        Lexer lexer = new Lexer(java.io.Reader.nullReader());
+        lexer.cargarEntrada(fuente, inicio, longitud, lineas);
+        lexer.setIdentificadores(identificadores);
+        TokensEmpaquetados tokens = lexer.empaquetarFragmento(limite);
+        while (lexer.next_token().sym != CUP.sym.EOF) {
+            // Los tokens se agregan al flujo desde las acciones del lexer
+        }
+        return tokens;
+    }
+
+    private static TokensEmpaquetados analizarSecuencial(char[] fuente, int longitud, Identificadores identificadores) throws IOException {
+        return analizarFragmento(fuente, 0, Integer.MAX_VALUE, longitud, new TablaLineas(fuente, longitud), identificadores);
+    }
+
+    /**
+     * Crea una tarea del pool; los errores de lectura viajan como {@link UncheckedIOException}.
+     */
+    private static <T> RecursiveTask<T> tarea(Callable<T> calculo) {
+        return new RecursiveTask<T>() {
+            @Override
+            protected T compute() {
+                try {
+                    return calculo.call();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,217 @@
+package JFLEX;
+
+import java.util.Arrays;
+
+/**
+ * Índice de los inicios de línea de un texto fuente.
+ * <p>
+ * El lexer solo guarda la posición de cada token y de cada error; la línea y la columna se
+ * calculan con este índice cuando el reporte de tokens, el parser o un mensaje de error las
+ * necesitan. El índice se construye una sola vez por texto, la primera vez que se consulta, con una
+ * pasada que solo busca saltos de línea.
+ * </p>
+ * <p>
+ * Los saltos de línea son los mismos que cuenta JFlex: {@code \n}, {@code \r}, {@code \r\n} (como
+ * uno solo), {@code \u000B}, {@code \u000C}, {@code \u0085}, {@code \u2028} y {@code \u2029}. La
+ * columna cuenta caracteres UTF-16 desde el inicio de la línea, así que un carácter fuera del
+ * plano básico ocupa dos columnas.
+ * </p>
+ */
+public final class TablaLineas {
+
+    private final char[] fuente;
+    private final int longitud;
+    private int[] inicios;
+    private int cantidad;
+
+    /**
+     * Crea el índice de un texto; los inicios de línea se buscan en la primera consulta.
+     *
+     * @param fuente   Los caracteres del texto.
+     * @param longitud La cantidad de caracteres válidos en el arreglo.
+     */
+    public TablaLineas(char[] fuente, int longitud) {
+        this.fuente = fuente;
+        this.longitud = longitud;
+    }
+
+    /**
+     * Indica si un carácter termina una línea para el lexer.
+     *
+     * @param c El carácter.
+     * @return {@code true} si es un salto de línea.
+     */
+    static boolean esFinDeLinea(char c) {
+        switch (c) {
+            case '\n':
+            case '\r':
+            case '\u000B':
+            case '\u000C':
+            case '\u0085':
+            case '\u2028':
+            case '\u2029':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private void construir() {
+        int[] encontrados = new int[Math.max(16, longitud >>> 5)];
+        int total = 1;
+        for (int i = 0; i < longitud; i++) {
+            char c = fuente[i];
+            // Los caracteres comunes se descartan con una sola comparación
+            if (c > '\r' && c != '\u0085' && c != '\u2028' && c != '\u2029') {
+                continue;
+            }
+            if (c == '\r' && i + 1 < longitud && fuente[i + 1] == '\n') {
+                i++;
+            } else if (!esFinDeLinea(c)) {
+                continue;
+            }
+            if (total == encontrados.length) {
+                encontrados = Arrays.copyOf(encontrados, total * 2);
+            }
+            encontrados[total++] = i + 1;
+        }
+        inicios = encontrados;
+        cantidad = total;
+    }
+
+    /**
+     * Actualiza el índice de un texto después de reemplazar una parte, sin volver a recorrer el
+     * texto completo: se conservan los inicios anteriores a la edición, se buscan los de la parte
+     * insertada y los posteriores se desplazan.
+     *
+     * @param anterior          El índice del texto antes de la edición.
+     * @param fuente            El texto completo después de la edición.
+     * @param longitud          La cantidad de caracteres válidos en el arreglo.
+     * @param inicioEdicion     La posición donde comienza la edición.
+     * @param longitudEliminada La cantidad de caracteres del texto anterior que se reemplazaron.
+     * @param longitudInsertada La cantidad de caracteres nuevos en su lugar.
+     * @return El índice del texto editado.
+     */
+    static TablaLineas editar(TablaLineas anterior, char[] fuente, int longitud,
+                              int inicioEdicion, int longitudEliminada, int longitudInsertada) {
+        TablaLineas editada = new TablaLineas(fuente, longitud);
+        if (anterior.inicios == null) {
+            return editada;
+        }
+        // Un \r antes de la edición puede formar un \r\n con el texto insertado, y un \r al final
+        // de la inserción con el texto siguiente; por eso se revisa un carácter de más a cada lado
+        int desde = Math.max(0, inicioEdicion - 1);
+        int hastaAnterior = Math.min(anterior.longitud, inicioEdicion + longitudEliminada + 1);
+        int hastaNueva = Math.min(longitud, inicioEdicion + longitudInsertada + 1);
+        int desplazamiento = longitudInsertada - longitudEliminada;
+
+        int conservados = anterior.indiceLinea(desde) + 1;
+        int siguiente = conservados;
+        while (siguiente < anterior.cantidad && anterior.inicios[siguiente] <= hastaAnterior) {
+            siguiente++;
+        }
+        int[] inicios = Arrays.copyOf(anterior.inicios, Math.max(16, anterior.cantidad + longitudInsertada + 1));
+        int total = conservados;
+        for (int i = desde; i < hastaNueva; i++) {
+            char c = fuente[i];
+            if (c == '\r' && i + 1 < longitud && fuente[i + 1] == '\n') {
+                i++;
+            } else if (!esFinDeLinea(c)) {
+                continue;
+            }
+            if (i + 1 > inicios[total - 1]) {
+                inicios[total++] = i + 1;
+            }
+        }
+        for (int l = siguiente; l < anterior.cantidad; l++) {
+            int inicio = anterior.inicios[l] + desplazamiento;
+            if (inicio > inicios[total - 1]) {
+                inicios[total++] = inicio;
+            }
+        }
+        editada.inicios = inicios;
+        editada.cantidad = total;
+        return editada;
+    }
+
+    /**
+     * Obtiene la cantidad de líneas del texto.
+     * @return Cantidad de líneas; un texto vacío tiene una.
+     */
+    public int cantidadLineas() {
+        if (inicios == null) {
+            construir();
+        }
+        return cantidad;
+    }
+
+    /**
+     * Obtiene la línea de una posición, comenzando en 0.
+     *
+     * @param posicion La posición en el texto.
+     * @return El índice de la línea que contiene la posición.
+     */
+    public int indiceLinea(int posicion) {
+        if (inicios == null) {
+            construir();
+        }
+        int indice = Arrays.binarySearch(inicios, 0, cantidad, posicion);
+        return indice >= 0 ? indice : -indice - 2;
+    }
+
+    /**
+     * Igual que {@link #indiceLinea(int)}, pero prueba primero la línea indicada y la siguiente;
+     * sirve para recorrer posiciones en orden sin buscar cada vez.
+     *
+     * @param posicion La posición en el texto.
+     * @param pista    El índice de una línea cercana, por ejemplo la de la posición anterior.
+     * @return El índice de la línea que contiene la posición.
+     */
+    int indiceLinea(int posicion, int pista) {
+        if (inicios == null) {
+            construir();
+        }
+        if (pista >= 0 && pista < cantidad && inicios[pista] <= posicion) {
+            if (pista + 1 == cantidad || posicion < inicios[pista + 1]) {
+                return pista;
+            }
+            if (pista + 2 == cantidad || posicion < inicios[pista + 2]) {
+                return pista + 1;
+            }
+        }
+        return indiceLinea(posicion);
+    }
+
+    /**
+     * Obtiene la posición donde comienza una línea.
+     *
+     * @param indiceLinea El índice de la línea, comenzando en 0.
+     * @return La posición de su primer carácter.
+     */
+    public int inicioLinea(int indiceLinea) {
+        if (inicios == null) {
+            construir();
+        }
+        return inicios[indiceLinea];
+    }
+
+    /**
+     * Obtiene la línea de una posición, comenzando en 1.
+     *
+     * @param posicion La posición en el texto.
+     * @return La línea.
+     */
+    public int linea(int posicion) {
+        return indiceLinea(posicion) + 1;
+    }
+
+    /**
+     * Obtiene la columna de una posición, comenzando en 1.
+     *
+     * @param posicion La posición en el texto.
+     * @return La columna.
+     */
+    public int columna(int posicion) {
+        return posicion - inicios[indiceLinea(posicion)] + 1;
+    }
+}
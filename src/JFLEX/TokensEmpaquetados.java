@@ -0,0 +1,558 @@
+package JFLEX;
+
+import CUP.sym;
+import Clases.CadenaFuente;
+import Clases.Identificadores;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * Flujo de tokens empaquetado en arreglos de enteros.
+ * <p>
+ * Por cada token se guardan el tipo, la posición de inicio y la longitud dentro del texto fuente;
+ * no se crea ningún objeto durante el análisis léxico. La línea y la columna se calculan desde la
+ * posición con la {@link TablaLineas} del texto cuando se piden. Los valores de los
+ * literales e identificadores se decodifican desde el texto fuente solo cuando se piden con
+ * {@link #valor(int)} o cuando el parser recibe el token con {@link #next_token()}.
+ * </p>
+ * <p>
+ * Requiere que el lexer tenga la entrada completa en memoria ({@link Lexer#cargarEntrada}),
+ * porque las posiciones apuntan a ese buffer.
+ * </p>
+ */
+public class TokensEmpaquetados implements Scanner {
+
+    private static final int CAPACIDAD_INICIAL = 1024;
+
+    /** El mayor entero que un {@code float} representa junto con todos los menores: 2^24. */
+    private static final long MAXIMO_FLOTANTE_EXACTO = 1L << 24;
+
+    /** Las potencias de 10 que un {@code float} representa exactamente. */
+    private static final float[] POTENCIAS_DE_DIEZ = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    private final char[] fuente;
+    private final TablaLineas lineas;
+    private final Identificadores identificadores;
+    private int[] tipos;
+    private int[] inicios;
+    private int[] longitudes;
+    private int cantidad;
+    private int posicion;
+    private int lineaPosicion;
+    private final int longitudFuente;
+    private int sincronizacion;
+    private int tipoSincronizacion;
+    private int longitudSincronizacion;
+    private DiagnosticosLexicos diagnosticos;
+
+    /**
+     * Crea un flujo vacío.
+     *
+     * @param fuente          El texto fuente al que apuntan las posiciones.
+     * @param longitudFuente  La cantidad de caracteres válidos del texto fuente.
+     * @param caracteres      La cantidad de caracteres que se espera analizar, para estimar la capacidad.
+     * @param lineas          El índice de líneas del texto fuente.
+     * @param identificadores La tabla donde se internan los identificadores.
+     */
+    TokensEmpaquetados(char[] fuente, int longitudFuente, int caracteres, TablaLineas lineas, Identificadores identificadores) {
+        this.fuente = fuente;
+        this.longitudFuente = longitudFuente;
+        this.lineas = lineas;
+        this.identificadores = identificadores;
+
+        // Estimación de un token cada 8 caracteres, para no tener que crecer en archivos típicos
+        int capacidad = Math.max(CAPACIDAD_INICIAL, caracteres >>> 3);
+        tipos = new int[capacidad];
+        inicios = new int[capacidad];
+        longitudes = new int[capacidad];
+        cantidad = 0;
+        posicion = 0;
+        sincronizacion = longitudFuente;
+    }
+
+    /**
+     * Analiza la entrada completa con el lexer y empaqueta sus tokens.
+     *
+     * @param lexer      El lexer con la entrada completa en memoria.
+     * @param observador Recibe cada token en cuanto se reconoce, por ejemplo para el reporte de
+     *                   tokens; así los errores léxicos aparecen intercalados en el mismo orden.
+     *                   Puede ser {@code null}.
+     * @return Los tokens empaquetados, sin incluir el fin de archivo.
+     * @throws IOException Si ocurre un error al leer la entrada.
+     */
+    public static TokensEmpaquetados grabar(Lexer lexer, Observador observador) throws IOException {
+        TokensEmpaquetados tokens = lexer.empaquetar();
+        int linea = 0;
+        while (lexer.next_token().sym != sym.EOF) {
+            if (observador != null) {
+                int i = tokens.cantidad - 1;
+                linea = tokens.lineas.indiceLinea(tokens.inicios[i], linea);
+                observador.token(tokens.tipos[i], linea + 1, tokens.inicios[i] - tokens.lineas.inicioLinea(linea) + 1);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Recibe los tokens a medida que se empaquetan, sin crear objetos por token.
+     */
+    @FunctionalInterface
+    public interface Observador {
+        /**
+         * Se invoca por cada token reconocido.
+         *
+         * @param tipo    El tipo del token (constante de {@code sym}).
+         * @param linea   La línea del token, comenzando en 1.
+         * @param columna La columna del token, comenzando en 1.
+         */
+        void token(int tipo, int linea, int columna);
+    }
+
+    void agregar(int tipo, int inicio, int longitud) {
+        if (cantidad == tipos.length) {
+            int capacidad = cantidad * 2;
+            tipos = Arrays.copyOf(tipos, capacidad);
+            inicios = Arrays.copyOf(inicios, capacidad);
+            longitudes = Arrays.copyOf(longitudes, capacidad);
+        }
+        tipos[cantidad] = tipo;
+        inicios[cantidad] = inicio;
+        longitudes[cantidad] = longitud;
+        cantidad++;
+    }
+
+    /**
+     * Quita el último token agregado.
+     */
+    void descartarUltimo() {
+        cantidad--;
+    }
+
+    /**
+     * Hace que los errores léxicos se guarden en el flujo en lugar de imprimirse.
+     */
+    void registrarErrores() {
+        if (diagnosticos == null) {
+            diagnosticos = new DiagnosticosLexicos(fuente, lineas);
+        }
+    }
+
+    boolean registraErrores() {
+        return diagnosticos != null;
+    }
+
+    /**
+     * Obtiene los errores léxicos guardados, o {@code null} si el flujo no los guarda.
+     */
+    DiagnosticosLexicos diagnosticos() {
+        return diagnosticos;
+    }
+
+    /**
+     * Registra el primer token que quedó fuera de un fragmento, sin agregarlo.
+     */
+    void sincronizar(int tipo, int inicio, int longitud) {
+        tipoSincronizacion = tipo;
+        sincronizacion = inicio;
+        longitudSincronizacion = longitud;
+    }
+
+    /**
+     * Agrega el token registrado como punto de sincronización, para continuar el fragmento
+     * más allá de su límite.
+     */
+    void agregarSincronizacion() {
+        agregar(tipoSincronizacion, sincronizacion, longitudSincronizacion);
+        sincronizacion = longitudFuente;
+    }
+
+    /**
+     * Obtiene la posición del primer token posterior al fragmento, o la longitud del texto
+     * fuente si el fragmento llegó hasta el final.
+     */
+    int sincronizacion() {
+        return sincronizacion;
+    }
+
+    /**
+     * Obtiene el índice de líneas del texto fuente.
+     */
+    TablaLineas tablaLineas() {
+        return lineas;
+    }
+
+    /**
+     * Busca el primer token que comienza en una posición del texto o después.
+     *
+     * @return El índice del token, o {@link #cantidad()} si no hay ninguno.
+     */
+    int buscarToken(int inicio) {
+        int indice = Arrays.binarySearch(inicios, 0, cantidad, inicio);
+        return indice >= 0 ? indice : -indice - 1;
+    }
+
+    /**
+     * Copia al final de este flujo un rango de tokens de otro y los errores que caen en un rango
+     * del texto, desplazando sus posiciones.
+     *
+     * @param otro           El flujo de origen.
+     * @param desde          El índice del primer token a copiar.
+     * @param hasta          El índice siguiente al último token a copiar.
+     * @param desdeError     La posición del texto de origen desde donde se copian errores.
+     * @param hastaError     La posición del texto de origen hasta donde se copian errores, sin incluirla.
+     * @param desplazamiento Lo que se suma a las posiciones.
+     */
+    void anexar(TokensEmpaquetados otro, int desde, int hasta, int desdeError, int hastaError, int desplazamiento) {
+        int copiados = hasta - desde;
+        if (cantidad + copiados > tipos.length) {
+            int capacidad = Math.max(cantidad + copiados, cantidad * 2);
+            tipos = Arrays.copyOf(tipos, capacidad);
+            inicios = Arrays.copyOf(inicios, capacidad);
+            longitudes = Arrays.copyOf(longitudes, capacidad);
+        }
+        System.arraycopy(otro.tipos, desde, tipos, cantidad, copiados);
+        System.arraycopy(otro.inicios, desde, inicios, cantidad, copiados);
+        System.arraycopy(otro.longitudes, desde, longitudes, cantidad, copiados);
+        if (desplazamiento != 0) {
+            for (int i = cantidad; i < cantidad + copiados; i++) {
+                inicios[i] += desplazamiento;
+            }
+        }
+        cantidad += copiados;
+
+        if (otro.diagnosticos != null) {
+            diagnosticos.anexar(otro.diagnosticos, desdeError, hastaError, desplazamiento);
+        }
+    }
+
+    /**
+     * Une los fragmentos de un análisis en paralelo en un solo flujo.
+     *
+     * @param fragmentos Los flujos de cada fragmento, en orden.
+     * @param desde      Por cada fragmento, el índice de su primer token válido.
+     * @param inicios    Por cada fragmento, la posición del texto desde donde sus errores son válidos.
+     * @return El flujo con todos los tokens y errores en orden.
+     */
+    static TokensEmpaquetados unir(List<TokensEmpaquetados> fragmentos, int[] desde, int[] inicios) {
+        TokensEmpaquetados primero = fragmentos.get(0);
+        TokensEmpaquetados unido = new TokensEmpaquetados(primero.fuente, primero.longitudFuente, primero.longitudFuente, primero.lineas, primero.identificadores);
+        unido.registrarErrores();
+        for (int f = 0; f < fragmentos.size(); f++) {
+            TokensEmpaquetados fragmento = fragmentos.get(f);
+            unido.anexar(fragmento, desde[f], fragmento.cantidad, inicios[f], Integer.MAX_VALUE, 0);
+        }
+        return unido;
+    }
+
+    /**
+     * Recorre los tokens en orden e imprime los errores léxicos guardados en el lugar donde el
+     * análisis secuencial los habría impreso, es decir, antes del primer token posterior a cada error.
+     *
+     * @param observador Recibe cada token.
+     */
+    public void reproducir(Observador observador) {
+        int errores = cantidadErrores();
+        int e = 0;
+        int linea = 0;
+        for (int i = 0; i < cantidad; i++) {
+            while (e < errores && diagnosticos.posicion(e) < inicios[i]) {
+                diagnosticos.imprimir(e++);
+            }
+            linea = lineas.indiceLinea(inicios[i], linea);
+            observador.token(tipos[i], linea + 1, inicios[i] - lineas.inicioLinea(linea) + 1);
+        }
+        while (e < errores) {
+            diagnosticos.imprimir(e++);
+        }
+        if (diagnosticos != null) {
+            diagnosticos.imprimirResumen();
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de errores léxicos guardados.
+     * @return Cantidad de errores.
+     */
+    public int cantidadErrores() {
+        return diagnosticos == null ? 0 : diagnosticos.cantidad();
+    }
+
+    /**
+     * Obtiene la posición en el texto fuente de un error léxico guardado.
+     * @param indice La posición del error.
+     * @return Posición del texto que causó el error.
+     */
+    public int posicionError(int indice) {
+        return diagnosticos.posicion(indice);
+    }
+
+    /**
+     * Obtiene la cantidad de caracteres de un error léxico guardado.
+     * @param indice La posición del error.
+     * @return Cantidad de caracteres del error.
+     */
+    public int longitudError(int indice) {
+        return diagnosticos.longitud(indice);
+    }
+
+    /**
+     * Obtiene el mensaje completo de un error léxico guardado.
+     * @param indice La posición del error.
+     * @return El mensaje con su línea y columna.
+     */
+    public String mensajeError(int indice) {
+        return diagnosticos.mensaje(indice);
+    }
+
+    /**
+     * Decodifica el valor de un token a partir de su texto.
+     *
+     * @param tipo            El tipo del token (constante de {@code sym}).
+     * @param fuente          El buffer que contiene el texto del token.
+     * @param inicio          La posición inicial del token.
+     * @param longitud        La cantidad de caracteres del token.
+     * @param identificadores La tabla donde se internan los identificadores.
+     * @return El valor del token, o {@code null} si el tipo de token no tiene valor.
+     */
+    static Object decodificarValor(int tipo, char[] fuente, int inicio, int longitud, Identificadores identificadores) {
+        switch (tipo) {
+            case sym.IDENTIFIER:
+                return identificadores.valor(identificadores.internar(fuente, inicio, longitud));
+            case sym.INT_LITERAL:
+                return decodificarEntero(fuente, inicio, longitud);
+            case sym.FLOAT_LITERAL:
+                return decodificarFlotante(fuente, inicio, longitud);
+            case sym.BOOL_LITERAL:
+                // El lexer solo reconoce "true" y "false"
+                return fuente[inicio] == 't';
+            case sym.CHAR_LITERAL:
+                return fuente[inicio + 1];
+            case sym.STRING_LITERAL:
+                return new CadenaFuente(fuente, inicio + 1, longitud - 2);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Decodifica un literal entero ({@code -?[0-9]+}) directamente desde el buffer.
+     * Acumula en negativo, igual que {@link Integer#parseInt}, para aceptar el mínimo entero.
+     *
+     * @throws NumberFormatException Si el valor no cabe en un {@code int}.
+     */
+    private static int decodificarEntero(char[] fuente, int inicio, int longitud) {
+        int fin = inicio + longitud;
+        boolean negativo = fuente[inicio] == '-';
+        int limite = negativo ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int minimoAntesDeMultiplicar = limite / 10;
+        int resultado = 0;
+        for (int i = negativo ? inicio + 1 : inicio; i < fin; i++) {
+            int digito = fuente[i] - '0';
+            if (resultado < minimoAntesDeMultiplicar || resultado * 10 < limite + digito) {
+                throw new NumberFormatException("For input string: \"" + new String(fuente, inicio, longitud) + "\"");
+            }
+            resultado = resultado * 10 - digito;
+        }
+        return negativo ? resultado : -resultado;
+    }
+
+    /**
+     * Decodifica un literal flotante ({@code -?[0-9]+\.[0-9]+}) directamente desde el buffer.
+     * <p>
+     * Si los dígitos forman un entero exacto en un {@code float} (hasta 2^24) y hay a lo sumo 10
+     * decimales, el cociente entre ese entero y la potencia de 10 es exacto en las dos partes y
+     * una sola división de {@code float} da el mismo redondeo que {@link Float#parseFloat}. Los
+     * demás casos, poco comunes en los programas, usan {@link Float#parseFloat}.
+     * </p>
+     */
+    private static float decodificarFlotante(char[] fuente, int inicio, int longitud) {
+        int fin = inicio + longitud;
+        boolean negativo = fuente[inicio] == '-';
+        long mantisa = 0;
+        int decimales = -1;
+        for (int i = negativo ? inicio + 1 : inicio; i < fin; i++) {
+            char c = fuente[i];
+            if (c == '.') {
+                decimales = 0;
+                continue;
+            }
+            mantisa = mantisa * 10 + (c - '0');
+            if (mantisa > MAXIMO_FLOTANTE_EXACTO) {
+                return Float.parseFloat(new String(fuente, inicio, longitud));
+            }
+            if (decimales >= 0) {
+                decimales++;
+            }
+        }
+        if (decimales < 0 || decimales >= POTENCIAS_DE_DIEZ.length) {
+            return Float.parseFloat(new String(fuente, inicio, longitud));
+        }
+        float valor = (float) mantisa / POTENCIAS_DE_DIEZ[decimales];
+        return negativo ? -valor : valor;
+    }
+
+    /**
+     * Entrega el siguiente token como {@code Symbol}, decodificando su valor en ese momento.
+     * Al terminar devuelve siempre el fin de archivo.
+     *
+     * @return El siguiente token.
+     */
+    @Override
+    public Symbol next_token() {
+        if (posicion < cantidad) {
+            int i = posicion++;
+            lineaPosicion = lineas.indiceLinea(inicios[i], lineaPosicion);
+            return new Symbol(tipos[i], lineaPosicion + 1, inicios[i] - lineas.inicioLinea(lineaPosicion) + 1, valor(i));
+        }
+        return new Symbol(sym.EOF);
+    }
+
+    /**
+     * Entrega un rango de tokens como un flujo independiente, con sus líneas y columnas
+     * originales, seguido del fin de archivo. Varios rangos se pueden recorrer a la vez desde
+     * distintos hilos después de {@link #prepararLecturaConcurrente()}.
+     *
+     * @param desde El índice del primer token.
+     * @param hasta El índice siguiente al último token.
+     * @return El flujo de tokens del rango.
+     */
+    public Scanner fragmento(int desde, int hasta) {
+        return new Scanner() {
+            private int siguiente = desde;
+            private int lineaSiguiente = lineas.indiceLinea(desde < cantidad ? inicios[desde] : 0);
+
+            @Override
+            public Symbol next_token() {
+                if (siguiente < hasta) {
+                    int i = siguiente++;
+                    lineaSiguiente = lineas.indiceLinea(inicios[i], lineaSiguiente);
+                    return new Symbol(tipos[i], lineaSiguiente + 1, inicios[i] - lineas.inicioLinea(lineaSiguiente) + 1, valor(i));
+                }
+                return new Symbol(sym.EOF);
+            }
+        };
+    }
+
+    /**
+     * Calcula una huella de 64 bits de un rango de tokens a partir de sus tipos y sus textos, sin
+     * tener en cuenta los espacios y comentarios entre ellos ni su posición en el archivo.
+     *
+     * @param desde El índice del primer token.
+     * @param hasta El índice siguiente al último token.
+     * @return La huella del rango.
+     */
+    public long huella(int desde, int hasta) {
+        long huella = 0xcbf29ce484222325L;
+        for (int i = desde; i < hasta; i++) {
+            huella = (huella ^ tipos[i]) * 0x100000001b3L;
+            huella = (huella ^ longitudes[i]) * 0x100000001b3L;
+            for (int c = inicios[i]; c < inicios[i] + longitudes[i]; c++) {
+                huella = (huella ^ fuente[c]) * 0x100000001b3L;
+            }
+        }
+        return huella;
+    }
+
+    /**
+     * Interna todos los identificadores y construye el índice de líneas, para que después
+     * decodificar tokens no modifique nada y se pueda hacer desde varios hilos.
+     */
+    public void prepararLecturaConcurrente() {
+        lineas.cantidadLineas();
+        for (int i = 0; i < cantidad; i++) {
+            if (tipos[i] == sym.IDENTIFIER) {
+                valor(i);
+            }
+        }
+    }
+
+    /**
+     * Vuelve al primer token para recorrer el flujo otra vez.
+     */
+    public void reiniciar() {
+        posicion = 0;
+        lineaPosicion = 0;
+    }
+
+    /**
+     * Obtiene la cantidad de tokens.
+     * @return Cantidad de tokens.
+     */
+    public int cantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Obtiene la longitud del texto fuente al que apuntan las posiciones.
+     * @return Cantidad de caracteres del texto fuente.
+     */
+    public int longitudFuente() {
+        return longitudFuente;
+    }
+
+    /**
+     * Obtiene el tipo de un token.
+     * @param indice La posición del token.
+     * @return Tipo del token (constante de {@code sym}).
+     */
+    public int tipo(int indice) {
+        return tipos[indice];
+    }
+
+    /**
+     * Obtiene la posición de inicio de un token en el texto fuente.
+     * @param indice La posición del token.
+     * @return Posición del primer carácter del token.
+     */
+    public int inicio(int indice) {
+        return inicios[indice];
+    }
+
+    /**
+     * Obtiene la longitud de un token.
+     * @param indice La posición del token.
+     * @return Cantidad de caracteres del token.
+     */
+    public int longitud(int indice) {
+        return longitudes[indice];
+    }
+
+    /**
+     * Obtiene la línea de un token, buscándola en el índice de líneas.
+     * @param indice La posición del token.
+     * @return Línea del token, comenzando en 1.
+     */
+    public int linea(int indice) {
+        return lineas.linea(inicios[indice]);
+    }
+
+    /**
+     * Obtiene la columna de un token, buscándola en el índice de líneas.
+     * @param indice La posición del token.
+     * @return Columna del token, comenzando en 1.
+     */
+    public int columna(int indice) {
+        return lineas.columna(inicios[indice]);
+    }
+
+    /**
+     * Decodifica el valor de un token desde el texto fuente.
+     * @param indice La posición del token.
+     * @return Valor del token, o {@code null} si el tipo de token no tiene valor.
+     */
+    public Object valor(int indice) {
+        return decodificarValor(tipos[indice], fuente, inicios[indice], longitudes[indice], identificadores);
+    }
+
+    /**
+     * Obtiene el texto de un token.
+     * @param indice La posición del token.
+     * @return Texto del token tal como aparece en el archivo fuente.
+     */
+    public String texto(int indice) {
+        return new String(fuente, inicios[indice], longitudes[indice]);
+    }
+}
@@ -0,0 +1,87 @@
+package JFLEX;
+
+import CUP.sym;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import java_cup.runtime.Scanner;
+import java_cup.runtime.Symbol;
+
+/**
+ * Fuente de tokens grabada: el archivo se analiza léxicamente una sola vez y los tokens quedan
+ * en memoria para el reporte de tokens y para el parser.
+ * <p>
+ * Implementa {@link Scanner}, así que el parser la consume igual que al {@code Lexer}.
+ * </p>
+ */
+public class TokensGrabados implements Scanner {
+
+    private final ArrayList<Symbol> tokens;
+    private int posicion;
+
+    private TokensGrabados(ArrayList<Symbol> tokens) {
+        this.tokens = tokens;
+        this.posicion = 0;
+    }
+
+    /**
+     * Analiza la entrada completa con el lexer y graba sus tokens.
+     *
+     * @param lexer      El lexer ya inicializado con la entrada.
+     * @param observador Recibe cada token en cuanto se reconoce, por ejemplo para el reporte de
+     *                   tokens; así los errores léxicos aparecen intercalados en el mismo orden.
+     *                   Puede ser {@code null}.
+     * @return Los tokens grabados, sin incluir el fin de archivo.
+     * @throws IOException Si ocurre un error al leer la entrada.
+     */
+    public static TokensGrabados grabar(Lexer lexer, Consumer<Symbol> observador) throws IOException {
+        ArrayList<Symbol> tokens = new ArrayList<>();
+        Symbol token;
+        while ((token = lexer.next_token()).sym != sym.EOF) {
+            tokens.add(token);
+            if (observador != null) {
+                observador.accept(token);
+            }
+        }
+        return new TokensGrabados(tokens);
+    }
+
+    /**
+     * Entrega el siguiente token grabado. Al terminar devuelve siempre el fin de archivo.
+     *
+     * @return El siguiente token.
+     */
+    @Override
+    public Symbol next_token() {
+        if (posicion < tokens.size()) {
+            return tokens.get(posicion++);
+        }
+        return new Symbol(sym.EOF);
+    }
+
+    /**
+     * Vuelve al primer token para recorrer la grabación otra vez.
+     */
+    public void reiniciar() {
+        posicion = 0;
+    }
+
+    /**
+     * Obtiene la cantidad de tokens grabados.
+     *
+     * @return Cantidad de tokens.
+     */
+    public int cantidad() {
+        return tokens.size();
+    }
+
+    /**
+     * Obtiene un token grabado.
+     *
+     * @param indice La posición del token.
+     * @return El token en esa posición.
+     */
+    public Symbol obtener(int indice) {
+        return tokens.get(indice);
+    }
+}
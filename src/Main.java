@@ -1,17 +1,34 @@
 import CUP.Parser;
+import CUP.ParserIncremental;
+import CUP.ParserParalelo;
+import Clases.AlmacenColumnar;
+import Clases.ArbolSintactico;
+import Clases.AlmacenLista;
+import Clases.AlmacenSimbolos;
+import Clases.Identificadores;
 import Clases.TablaSimbolos;
 import Clases.Semantico;
 import Clases.TipoDatos;
+import Clases.TipoNodo;
 import Clases.Simbolo;
-import java_cup.runtime.Symbol;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
+import JFLEX.EntradaMapeada;
 import JFLEX.Lexer;
+import JFLEX.LexerBytes;
+import JFLEX.LexerParalelo;
+import JFLEX.TokensEmpaquetados;
+import JFLEX.TokensGrabados;
 import CUP.sym;
-import jflex.exceptions.SilentExit;
 
 /**
  * Clase principal para ejecución del programa
@@ -21,14 +38,23 @@ public class Main {
     /**
      * Clase principal del programa
      */
-    public static void main(String[] args) throws SilentExit {
+    public static void main(String[] args) {
         InputStream originalIn = System.in;
-
-        String lexerFilePath = "src/JFLEX/Lexer.jflex";
-        String parserFilePath = "src/CUP/Parser.cup";
-
-        generarLexer(lexerFilePath);
-        generarParser(parserFilePath);
+        List<String> opciones = Arrays.asList(args);
+
+        // El lexer y el parser se generan en el paso de compilación (Generador); aquí solo se
+        // generan si se pide explícitamente, y si no se avisa cuando están desactualizados
+        if (opciones.contains("--generar")) {
+            try {
+                Generador.generar(false);
+            } catch (Exception e) {
+                System.err.println("Error al generar el lexer y el parser: " + e.getMessage());
+            }
+        } else {
+            for (String especificacion : Generador.desactualizados()) {
+                System.err.println("Advertencia: " + especificacion + " cambió desde la última generación; ejecute Generador antes de compilar.");
+            }
+        }
 
         System.setIn(originalIn);
 
@@ -46,12 +72,49 @@ public class Main {
             }
         }
 
+        if (!opciones.contains("--incremental")) {
+            analizarArchivo(archivo, opciones, new Identificadores(), null);
+            return;
+        }
+
+        // Modo incremental: el archivo se vuelve a analizar cada vez que se pide, y solo se
+        // analizan de nuevo las funciones que cambiaron
+        Identificadores identificadores = new Identificadores();
+        ParserIncremental incremental = new ParserIncremental();
+        PrintStream consola = System.out;
+        PrintStream consolaErr = System.err;
+        while (true) {
+            analizarArchivo(archivo, opciones, identificadores, incremental);
+            System.setOut(consola);
+            System.setErr(consolaErr);
+
+            System.out.print("Presione Enter para analizar de nuevo el archivo o escriba 'salir': ");
+            if (!scanner.hasNextLine() || scanner.nextLine().trim().equalsIgnoreCase("salir")) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Analiza un archivo y escribe los resultados en salida.txt y salida_simbolos.txt.
+     * @param archivo La ruta del archivo a analizar
+     * @param opciones Las opciones de la línea de comandos
+     * @param identificadores La tabla de identificadores que llena el lexer
+     * @param incremental El análisis incremental que se reutiliza entre llamadas, o {@code null}
+     */
+    private static void analizarArchivo(String archivo, List<String> opciones, Identificadores identificadores, ParserIncremental incremental) {
+        boolean columnar = opciones.contains("--columnar");
+        boolean tablaTexto = !opciones.contains("--solo-binario");
+        boolean empaquetado = opciones.contains("--empaquetado") || incremental != null;
+        boolean paralelo = opciones.contains("--paralelo");
+        boolean bytes = opciones.contains("--bytes");
+        boolean mapeado = opciones.contains("--mapeado");
+        boolean arbol = opciones.contains("--arbol");
+        boolean parseoParalelo = opciones.contains("--parseo-paralelo");
+
         String archivoSalida = "salida.txt";
-        String archivoSimbolos = "salida_simbolos.txt";
 
-        try (FileReader reader = new FileReader(archivo);
-             BufferedWriter writer = new BufferedWriter(new FileWriter(archivoSalida, false));
-             BufferedWriter simbolosWriter = new BufferedWriter(new FileWriter(archivoSimbolos, false))) {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(archivoSalida, false))) {
 
             MultiOutputStream multiOut = new MultiOutputStream(System.out, writer);
             MultiOutputStream multiErr = new MultiOutputStream(System.err, writer);
@@ -62,29 +125,38 @@ public class Main {
             System.setOut(printStream);
             System.setErr(printErr);
 
-            Lexer lexer = new Lexer(reader);
-            Symbol token;
-
-            Parser parser = new Parser(lexer);
-
-            while (true) {
-                token = lexer.next_token();
-                if (token.sym != 0) {
-                    String tokenName = sym.terminalNames[token.sym];
-                    int linea = lexer.getLine() + 1;
-                    int columna = lexer.getColumn() + 1;
-
-                    TipoDatos tipo = getTokenType(token.sym);
-
-                    System.out.println("Token: " + tokenName + ", Tipo: " + tipo + ", Línea: " + linea + ", Columna: " + columna);
-
-                } else {
-                    break;
+            // El archivo se analiza léxicamente una sola vez: el reporte de tokens se imprime
+            // mientras se graban y el parser consume la misma grabación
+            java_cup.runtime.Scanner tokens;
+            if (paralelo) {
+                // Modo paralelo: los fragmentos se analizan en el pool común y el reporte se
+                // imprime al final, con los errores léxicos intercalados en su lugar
+                CharBuffer contenido = EntradaMapeada.leer(Paths.get(archivo));
+                TokensEmpaquetados empaquetados = LexerParalelo.analizar(contenido.array(), contenido.limit(), identificadores, ForkJoinPool.commonPool());
+                empaquetados.reproducir(Main::imprimirToken);
+                tokens = empaquetados;
+            } else if (bytes) {
+                // Modo de bytes: el archivo se analiza sin decodificarlo, salvo las partes no ASCII
+                ByteBuffer contenido = EntradaMapeada.leerBytes(Paths.get(archivo));
+                TokensEmpaquetados empaquetados = LexerBytes.analizar(contenido, identificadores);
+                empaquetados.reproducir(Main::imprimirToken);
+                tokens = empaquetados;
+            } else {
+                // Con --mapeado el archivo se lee por ventanas mapeadas en memoria en lugar de un FileReader
+                try (Reader entrada = mapeado ? EntradaMapeada.abrir(Paths.get(archivo)) : new FileReader(archivo)) {
+                    // El modo empaquetado necesita la entrada completa; si no, el lexer la lee por partes
+                    Lexer lexer = empaquetado ? Lexer.leerCompleto(entrada) : new Lexer(entrada);
+                    lexer.setIdentificadores(identificadores);
+                    if (empaquetado) {
+                        // Modo empaquetado: los valores se decodifican recién cuando el parser pide cada token
+                        tokens = TokensEmpaquetados.grabar(lexer, Main::imprimirToken);
+                    } else {
+                        tokens = TokensGrabados.grabar(lexer, token -> imprimirToken(token.sym, token.left, token.right));
+                    }
                 }
             }
 
-
-            validateSyntax(archivo);
+            validateSyntax(tokens, identificadores, columnar, tablaTexto, arbol, parseoParalelo, incremental);
 
         } catch (IOException e) {
             System.err.println("Error al leer o escribir archivos: " + e.getMessage());
@@ -94,22 +166,98 @@ public class Main {
     }
 
     /**
-     * Valida la sintaxis del archivo utilizando el parser.
-     * @param filePath Ruta del archivo a analizar
+     * Valida la sintaxis de los tokens grabados utilizando el parser.
+     * @param tokens Los tokens del archivo a analizar, grabados o empaquetados
+     * @param identificadores La tabla de identificadores que llenó el lexer
+     * @param columnar Si la tabla de símbolos usa el almacenamiento columnar
+     * @param tablaTexto Si además de la tabla binaria se genera la tabla de símbolos en texto
+     * @param arbol Si se escribe el árbol sintáctico en salida_arbol.txt
+     * @param parseoParalelo Si las funciones se analizan en paralelo; solo con tokens empaquetados
+     * @param incremental El análisis incremental que reutiliza las funciones sin cambios, o {@code null}
      */
-    private static void validateSyntax(String filePath) {
-        try (FileReader reader = new FileReader(filePath)) {
-            Lexer lexer = new Lexer(reader);
-            lexer.desactivarImpresionErrores();
-            Parser parser = new Parser(lexer);
-            parser.parse();
-            parser.tablaSimbolos.escribirTabla();
+    private static void validateSyntax(java_cup.runtime.Scanner tokens, Identificadores identificadores, boolean columnar, boolean tablaTexto, boolean arbol, boolean parseoParalelo, ParserIncremental incremental) {
+        try {
+            AlmacenSimbolos almacen = columnar ? new AlmacenColumnar(identificadores) : new AlmacenLista(identificadores);
+            TablaSimbolos tablaSimbolos = new TablaSimbolos(identificadores, almacen);
+            ArbolSintactico arbolSintactico;
+            if (incremental != null && tokens instanceof TokensEmpaquetados) {
+                arbolSintactico = incremental.analizar((TokensEmpaquetados) tokens, tablaSimbolos, ForkJoinPool.commonPool());
+            } else if (parseoParalelo && tokens instanceof TokensEmpaquetados) {
+                arbolSintactico = ParserParalelo.analizar((TokensEmpaquetados) tokens, tablaSimbolos, ForkJoinPool.commonPool());
+            } else {
+                Parser parser = new Parser(tokens, tablaSimbolos);
+                parser.parse();
+                arbolSintactico = parser.arbol;
+            }
+            tablaSimbolos.escribirTabla(Paths.get("salida_simbolos.bin"), tablaTexto ? Paths.get("salida_simbolos.txt") : null);
+            if (arbol) {
+                escribirArbol(arbolSintactico, identificadores, Paths.get("salida_arbol.txt"));
+            }
             System.out.println("Análisis completado.");
         } catch (Exception e) {
             System.err.println("Error durante el análisis: " + e.getMessage());
         }
     }
 
+    /**
+     * Escribe el árbol sintáctico con un nodo por línea, sangrado según su profundidad.
+     * @param arbol El árbol que construyó el parser
+     * @param identificadores La tabla de identificadores que resuelve los nombres
+     * @param archivo La ruta del archivo de salida
+     * @throws IOException Si no se puede escribir el archivo
+     */
+    private static void escribirArbol(ArbolSintactico arbol, Identificadores identificadores, Path archivo) throws IOException {
+        if (arbol.raiz() < 0) {
+            return;
+        }
+        try (BufferedWriter salida = Files.newBufferedWriter(archivo)) {
+            // Recorrido en preorden con una pila explícita: una expresión larga puede ser muy profunda
+            int[] pila = new int[64];
+            int[] profundidades = new int[64];
+            int cantidad = 0;
+            pila[cantidad] = arbol.raiz();
+            profundidades[cantidad++] = 0;
+            while (cantidad > 0) {
+                cantidad--;
+                int nodo = pila[cantidad];
+                int profundidad = profundidades[cantidad];
+                int token = arbol.token(nodo);
+
+                salida.write("  ".repeat(profundidad) + arbol.tipo(nodo));
+                if (arbol.tipo(nodo) != TipoNodo.PROGRAMA) {
+                    Object valor = arbol.valorToken(token);
+                    String texto = arbol.simboloToken(token) == sym.IDENTIFIER ? identificadores.nombre((Integer) valor)
+                            : valor != null ? String.valueOf(valor) : sym.terminalNames[arbol.simboloToken(token)];
+                    salida.write(" " + texto + " (línea " + arbol.lineaToken(token) + ", columna " + arbol.columnaToken(token) + ")");
+                }
+                salida.newLine();
+
+                int hijos = arbol.cantidadHijos(nodo);
+                if (cantidad + hijos > pila.length) {
+                    pila = Arrays.copyOf(pila, Math.max(pila.length * 2, cantidad + hijos));
+                    profundidades = Arrays.copyOf(profundidades, pila.length);
+                }
+                for (int i = hijos - 1; i >= 0; i--) {
+                    pila[cantidad] = arbol.hijo(nodo, i);
+                    profundidades[cantidad++] = profundidad + 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Imprime una línea del reporte de tokens.
+     * @param simbolo El símbolo del token
+     * @param linea La línea del token
+     * @param columna La columna del token
+     */
+    private static void imprimirToken(int simbolo, int linea, int columna) {
+        String tokenName = sym.terminalNames[simbolo];
+        TipoDatos tipo = getTokenType(simbolo);
+
+        System.out.println("Token: " + tokenName + ", Tipo: " + tipo + ", Línea: " + linea + ", Columna: " + columna);
+    }
+
     /**
      * Obtiene el tipo de dato correspondiente al símbolo del token.
      * @param sym El símbolo del token
@@ -134,37 +282,6 @@ public class Main {
         }
     }
 
-    /**
-     * Genera el archivo de parser a partir del archivo especificado.
-     * @param inputFile Ruta del archivo .cup que contiene la gramática del parser
-     */
-    public static void generarParser(String inputFile) {
-        try {
-            String[] archivoEntrada = {
-                    "-destdir", "src/CUP",
-                    "-parser", "Parser",
-                    "-symbols", "sym",
-                    inputFile
-            };
-
-            java_cup.Main.main(archivoEntrada);
-            System.out.println("Parser generado exitosamente.");
-        } catch (Exception e) {
-            System.err.println("Error al generar el parser: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Genera el archivo de lexer a partir del archivo especificado.
-     * @param inputFile Ruta del archivo .jflex que contiene la definición del lexer
-     * @throws SilentExit Si ocurre un error en la generación del lexer
-     */
-    public static void generarLexer(String inputFile) throws SilentExit {
-        String[] archivoEntrada = { inputFile };
-        jflex.Main.generate(archivoEntrada);
-        System.out.println("Lexer generado exitosamente.");
-    }
-
     /**
      * Clase para redirigir la salida a múltiples flujos.
      * <p>
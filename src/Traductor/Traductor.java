@@ -1,6 +1,7 @@
 package Traductor;
 
-import Clases.Simbolo;
+import Clases.ArbolSintactico;
+import Clases.TipoNodo;
 import CUP.Parser;
 
 public class Traductor {
@@ -11,15 +12,18 @@ public class Traductor {
         // Generar encabezados si es necesario
         codigoSalida.append("// Código traducido\n\n");
 
-        // Recorrer las funciones y el main
-        if (parser.tablaSimbolos != null) {
-            for (Simbolo simbolo : parser.tablaSimbolos.getEntries()) {
-                if (simbolo.getTipo().equals("FUNCION")) {
-                    codigoSalida.append(traducirFuncion(simbolo));
-                } else if (simbolo.getNombre().equals("MAIN")) {
-                    codigoSalida.append(traducirMain(simbolo));
+        // Recorrer las funciones y el main en el árbol sintáctico, en el orden del código
+        ArbolSintactico arbol = parser.arbol;
+        if (arbol != null && arbol.raiz() >= 0) {
+            int raiz = arbol.raiz();
+            for (int i = 0; i < arbol.cantidadHijos(raiz); i++) {
+                int nodo = arbol.hijo(raiz, i);
+                if (arbol.tipo(nodo) == TipoNodo.FUNCION) {
+                    codigoSalida.append(traducirFuncion(arbol, nodo));
+                } else if (arbol.tipo(nodo) == TipoNodo.MAIN) {
+                    codigoSalida.append(traducirMain(arbol, nodo));
                 } else {
-                    codigoSalida.append("// No se puede traducir el símbolo: " + simbolo.getNombre() + "\n");
+                    codigoSalida.append("// No se puede traducir el nodo: " + arbol.tipo(nodo) + "\n");
                 }
             }
         }
@@ -27,11 +31,11 @@ public class Traductor {
         return codigoSalida.toString();
     }
 
-    private char[] traducirMain(Simbolo simbolo) {
+    private char[] traducirMain(ArbolSintactico arbol, int nodo) {
         return new char[0];
     }
 
-    private char[] traducirFuncion(Simbolo simbolo) {
+    private char[] traducirFuncion(ArbolSintactico arbol, int nodo) {
         return new char[0];
     }
 
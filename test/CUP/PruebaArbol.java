@@ -0,0 +1,438 @@
+package CUP;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import Clases.AlmacenLista;
+import Clases.ArbolSintactico;
+import Clases.Identificadores;
+import Clases.TablaSimbolos;
+import Clases.TipoNodo;
+import JFLEX.Lexer;
+
+/**
+ * Prueba del árbol sintáctico que construye el {@link Parser}, con programas al azar.
+ * <p>
+ * Genera programas válidos con todas las construcciones del lenguaje, anidadas, y revisa el árbol
+ * de cada uno: el token principal de cada nodo es de la clase que corresponde a su clase de nodo y
+ * está dentro de su rango, los rangos de los hijos están en orden y dentro del rango del padre, la
+ * raíz abarca toda la entrada y el recorrido desde la raíz alcanza todos los nodos. Uso:
+ * {@code java CUP.PruebaArbol [semilla] [programas]}; termina con código 1 si algún árbol no
+ * cumple.
+ * </p>
+ */
+public class PruebaArbol {
+
+    /** Los operadores aritméticos que el parser evalúa sin error entre enteros y flotantes. */
+    private static final String[] ARITMETICOS = {"navidad", "intercambio", "nochebuena", "reyes"};
+    private static final String[] RELACIONALES = {"snowball", "evergreen", "minstix", "upatree", "mary", "openslae"};
+    private static final String[] LOGICOS = {"melchor", "gaspar"};
+    private static final String[] TIPOS = {"rodolfo", "bromista", "trueno", "cupido", "cometa"};
+
+    /** Los símbolos que puede tener el token principal de cada clase de nodo. */
+    private static final Map<TipoNodo, int[]> TOKENS = new EnumMap<>(TipoNodo.class);
+
+    static {
+        int[] nombre = {sym.IDENTIFIER};
+        for (TipoNodo tipo : new TipoNodo[] {TipoNodo.FUNCION, TipoNodo.PARAMETRO, TipoNodo.DECLARACION,
+                TipoNodo.DECLARACION_ASIGNACION, TipoNodo.DECLARACION_ARREGLO, TipoNodo.ASIGNACION,
+                TipoNodo.ASIGNACION_ELEMENTO, TipoNodo.LEER, TipoNodo.IDENTIFICADOR, TipoNodo.ACCESO_ARREGLO, TipoNodo.LLAMADA}) {
+            TOKENS.put(tipo, nombre);
+        }
+        int[] unarios = {sym.INCREMENT, sym.DECREMENT, sym.NOT};
+        TOKENS.put(TipoNodo.MAIN, new int[] {sym.MAIN});
+        TOKENS.put(TipoNodo.BLOQUE, new int[] {sym.OPEN_BLOCK});
+        TOKENS.put(TipoNodo.INICIALIZADOR, new int[] {sym.OPEN_BLOCK});
+        TOKENS.put(TipoNodo.RETORNO, new int[] {sym.RETURN});
+        TOKENS.put(TipoNodo.QUIEBRE, new int[] {sym.BREAK});
+        TOKENS.put(TipoNodo.SI, new int[] {sym.IF});
+        TOKENS.put(TipoNodo.MIENTRAS, new int[] {sym.WHILE});
+        TOKENS.put(TipoNodo.PARA, new int[] {sym.FOR});
+        TOKENS.put(TipoNodo.SEGUN, new int[] {sym.SWITCH});
+        TOKENS.put(TipoNodo.CASO, new int[] {sym.CASE, sym.DEFAULT});
+        TOKENS.put(TipoNodo.IMPRIMIR, new int[] {sym.PRINT});
+        TOKENS.put(TipoNodo.BINARIA, new int[] {sym.PLUS, sym.MINUS, sym.MULTIPLY, sym.DIVIDE, sym.MODULO, sym.POWER,
+                sym.LESS_THAN, sym.LESS_EQUAL, sym.GREATER_THAN, sym.GREATER_EQUAL, sym.EQUAL, sym.NOT_EQUAL, sym.AND, sym.OR});
+        TOKENS.put(TipoNodo.UNARIA_PREFIJA, unarios);
+        TOKENS.put(TipoNodo.UNARIA_POSFIJA, unarios);
+        TOKENS.put(TipoNodo.LITERAL, new int[] {sym.INT_LITERAL, sym.FLOAT_LITERAL, sym.BOOL_LITERAL, sym.STRING_LITERAL, sym.CHAR_LITERAL});
+    }
+
+    private static Random aleatorio;
+    private static StringBuilder texto;
+    /** Cantidad de funciones declaradas antes del cuerpo que se está generando; solo a esas se llama. */
+    private static int funcionesAnteriores;
+    private static int visitados;
+
+    public static void main(String[] args) throws Exception {
+        aleatorio = new Random(args.length > 0 ? Long.parseLong(args[0]) : 1);
+        int programas = args.length > 1 ? Integer.parseInt(args[1]) : 3000;
+
+        int fallos = 0;
+        int nodos = 0;
+        for (int k = 0; k < programas; k++) {
+            String programa = programa();
+            String fallo;
+            try {
+                ArbolSintactico arbol = analizar(programa);
+                nodos += arbol.cantidadNodos();
+                fallo = revisar(arbol);
+            } catch (Exception e) {
+                fallo = "excepción " + e;
+            }
+            if (fallo != null) {
+                fallos++;
+                if (fallos <= 3) {
+                    System.out.println("FALLA programa " + k + ": " + fallo + "\n" + programa);
+                }
+            }
+        }
+
+        System.out.println(programas + " programas, " + nodos + " nodos, " + fallos + " fallos");
+        if (fallos > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static ArbolSintactico analizar(String programa) throws Exception {
+        Lexer lexer = new Lexer(new StringReader(programa));
+        lexer.desactivarImpresionErrores();
+        Identificadores identificadores = new Identificadores();
+        lexer.setIdentificadores(identificadores);
+        Parser parser = new Parser(lexer, new TablaSimbolos(identificadores, new AlmacenLista(identificadores)));
+        // Los errores semánticos de los programas generados no interesan aquí
+        parser.usarDiagnosticos(new PrintStream(OutputStream.nullOutputStream()));
+        parser.parse();
+        return parser.arbol;
+    }
+
+    /**
+     * Revisa la forma de un árbol completo.
+     *
+     * @return La descripción del primer problema, o {@code null} si no hay.
+     */
+    private static String revisar(ArbolSintactico arbol) {
+        if (!arbol.completo()) {
+            return "árbol incompleto";
+        }
+        int raiz = arbol.raiz();
+        int ultimo = arbol.cantidadTokens() - 2;
+        if (arbol.inicio(raiz) != 0 || arbol.fin(raiz) != ultimo) {
+            return "la raíz abarca " + arbol.inicio(raiz) + "-" + arbol.fin(raiz) + " y no 0-" + ultimo;
+        }
+        visitados = 0;
+        String fallo = revisar(arbol, raiz, 0, ultimo);
+        if (fallo == null && visitados != arbol.cantidadNodos()) {
+            fallo = "se alcanzan " + visitados + " de " + arbol.cantidadNodos() + " nodos";
+        }
+        return fallo;
+    }
+
+    private static String revisar(ArbolSintactico arbol, int nodo, int desde, int hasta) {
+        visitados++;
+        TipoNodo tipo = arbol.tipo(nodo);
+        if (arbol.inicio(nodo) < desde || arbol.fin(nodo) > hasta || arbol.inicio(nodo) > arbol.fin(nodo)) {
+            return tipo + " abarca " + arbol.inicio(nodo) + "-" + arbol.fin(nodo) + " fuera de " + desde + "-" + hasta;
+        }
+        if (tipo != TipoNodo.PROGRAMA) {
+            int token = arbol.token(nodo);
+            boolean esperado = false;
+            for (int simbolo : TOKENS.get(tipo)) {
+                esperado |= simbolo == arbol.simboloToken(token);
+            }
+            if (!esperado) {
+                return tipo + " con token " + sym.terminalNames[arbol.simboloToken(token)] + " en " + token;
+            }
+            if (token < arbol.inicio(nodo) || token > arbol.fin(nodo)) {
+                return tipo + " con token " + token + " fuera de " + arbol.inicio(nodo) + "-" + arbol.fin(nodo);
+            }
+        }
+        int anterior = arbol.inicio(nodo) - 1;
+        for (int i = 0; i < arbol.cantidadHijos(nodo); i++) {
+            int hijo = arbol.hijo(nodo, i);
+            if (arbol.inicio(hijo) <= anterior) {
+                return "hijos fuera de orden en " + tipo;
+            }
+            String fallo = revisar(arbol, hijo, arbol.inicio(nodo), arbol.fin(nodo));
+            if (fallo != null) {
+                return fallo;
+            }
+            anterior = arbol.fin(hijo);
+        }
+        return null;
+    }
+
+    private static String programa() {
+        texto = new StringBuilder();
+        int funciones = aleatorio.nextInt(3);
+        boolean mainPrimero = aleatorio.nextBoolean();
+        funcionesAnteriores = 0;
+        if (mainPrimero) {
+            main();
+        }
+        for (int i = 0; i < funciones; i++) {
+            texto.append(tipo()).append(" _f").append(i).append("_ abreregalo ");
+            int parametros = aleatorio.nextInt(3);
+            for (int j = 0; j < parametros; j++) {
+                if (j > 0) {
+                    texto.append(", ");
+                }
+                texto.append(tipo()).append(" _p").append(j).append("_ ");
+            }
+            texto.append("cierraregalo\n");
+            funcionesAnteriores = i;
+            bloque(0);
+        }
+        funcionesAnteriores = funciones;
+        if (!mainPrimero) {
+            main();
+        }
+        return texto.toString();
+    }
+
+    private static void main() {
+        texto.append("_verano_ abreregalo cierraregalo\n");
+        bloque(0);
+    }
+
+    private static void bloque(int profundidad) {
+        texto.append("abrecuento\n");
+        if (profundidad == 0) {
+            texto.append("rodolfo _arr_ abreempaque 2 cierraempaque entrega abrecuento 1, 2 cierracuento finregalo\n");
+        }
+        for (int i = 1 + aleatorio.nextInt(3); i > 0; i--) {
+            sentencia(profundidad + 1);
+        }
+        texto.append("cierracuento\n");
+    }
+
+    private static void sentencia(int profundidad) {
+        switch (aleatorio.nextInt(profundidad > 3 ? 10 : 16)) {
+            case 0:
+                texto.append(tipo()).append(' ').append(variable()).append(" finregalo\n");
+                break;
+            case 1:
+                texto.append(tipo()).append(' ').append(variable()).append(" entrega ");
+                expresion(0);
+                texto.append("finregalo\n");
+                break;
+            case 2:
+                texto.append(variable()).append(" entrega ");
+                expresion(0);
+                texto.append("finregalo\n");
+                break;
+            case 3:
+                texto.append(tipo()).append(' ').append(variable()).append(" abreempaque 2 cierraempaque entrega abrecuento 1, 2 cierracuento finregalo\n");
+                break;
+            case 4:
+                texto.append("_arr_ abreempaque 1 cierraempaque entrega ");
+                expresion(0);
+                texto.append("finregalo\n");
+                break;
+            case 5:
+                texto.append(variable()).append(" entrega abrecuento 'a', 'b' cierracuento finregalo\n");
+                break;
+            case 6:
+                if (aleatorio.nextBoolean()) {
+                    texto.append("envia finregalo\n");
+                } else {
+                    texto.append("envia ");
+                    expresion(0);
+                    texto.append("finregalo\n");
+                }
+                break;
+            case 7:
+                texto.append("narra abreregalo ");
+                expresion(0);
+                texto.append("cierraregalo finregalo\n");
+                break;
+            case 8:
+                texto.append("escucha abreregalo ").append(variable()).append(" cierraregalo finregalo\n");
+                break;
+            case 9:
+                if (funcionesAnteriores == 0) {
+                    texto.append("corta finregalo\n");
+                } else {
+                    llamada(0);
+                    texto.append("finregalo\n");
+                }
+                break;
+            case 10:
+                texto.append("corta finregalo\n");
+                break;
+            case 11:
+                texto.append("elfo abreregalo ");
+                expresion(0);
+                texto.append("cierraregalo\n");
+                bloque(profundidad);
+                if (aleatorio.nextBoolean()) {
+                    texto.append("hada\n");
+                    bloque(profundidad);
+                }
+                break;
+            case 12:
+                texto.append("envuelve abreregalo ");
+                expresion(0);
+                texto.append("cierraregalo\n");
+                bloque(profundidad);
+                break;
+            case 13:
+                texto.append("duende abreregalo _i_ entrega 0 , ");
+                expresion(0);
+                texto.append(", _i_ quien cierraregalo\n");
+                bloque(profundidad);
+                break;
+            default:
+                texto.append("varios abreregalo ");
+                expresion(0);
+                texto.append("cierraregalo\nabrecuento\n");
+                int casos = 1 + aleatorio.nextInt(3);
+                for (int i = 0; i < casos; i++) {
+                    if (i == casos - 1 && aleatorio.nextBoolean()) {
+                        texto.append("ultimo sigue ");
+                    } else {
+                        texto.append("historia ");
+                        expresion(1);
+                        texto.append("sigue ");
+                    }
+                    if (aleatorio.nextInt(3) == 0) {
+                        expresion(1);
+                        texto.append("finregalo\n");
+                    } else {
+                        for (int j = 1 + aleatorio.nextInt(2); j > 0; j--) {
+                            sentencia(profundidad + 1);
+                        }
+                    }
+                }
+                texto.append("cierracuento\n");
+                break;
+        }
+    }
+
+    /**
+     * Agrega una expresión completa. Las variables, los accesos a arreglos, los caracteres y las
+     * llamadas solo aparecen solos: el parser evalúa las operaciones mientras analiza, y un valor
+     * de otro tipo en una operación deja un valor nulo que corta el análisis antes de completar el
+     * árbol.
+     */
+    private static void expresion(int profundidad) {
+        switch (aleatorio.nextInt(profundidad > 2 ? 3 : 7)) {
+            case 0:
+                logica(profundidad);
+                break;
+            case 1:
+                texto.append(variable()).append(' ');
+                break;
+            case 2:
+                aritmetica(profundidad);
+                break;
+            case 3:
+                texto.append("_arr_ abreempaque 1 cierraempaque ");
+                break;
+            case 4:
+                llamada(profundidad + 1);
+                break;
+            case 5:
+                texto.append("'c' ");
+                break;
+            default:
+                texto.append("abreregalo ");
+                expresion(profundidad + 1);
+                texto.append("cierraregalo ");
+                break;
+        }
+    }
+
+    private static void logica(int profundidad) {
+        condicion(profundidad);
+        for (int i = profundidad > 2 ? 0 : aleatorio.nextInt(3); i > 0; i--) {
+            texto.append(LOGICOS[aleatorio.nextInt(LOGICOS.length)]).append(' ');
+            condicion(profundidad);
+        }
+    }
+
+    private static void condicion(int profundidad) {
+        switch (aleatorio.nextInt(profundidad > 2 ? 2 : 3)) {
+            case 0:
+                texto.append("true ");
+                break;
+            case 1:
+                aritmetica(profundidad);
+                texto.append(RELACIONALES[aleatorio.nextInt(RELACIONALES.length)]).append(' ');
+                aritmetica(profundidad);
+                break;
+            default:
+                texto.append("abreregalo ");
+                logica(profundidad + 1);
+                texto.append("cierraregalo ");
+                break;
+        }
+    }
+
+    private static void aritmetica(int profundidad) {
+        numero(profundidad);
+        for (int i = profundidad > 2 ? 0 : aleatorio.nextInt(3); i > 0; i--) {
+            String operador = ARITMETICOS[aleatorio.nextInt(ARITMETICOS.length)];
+            texto.append(operador).append(' ');
+            if (operador.equals("reyes")) {
+                // El divisor es un literal para que nunca valga cero
+                texto.append(1 + aleatorio.nextInt(8)).append(' ');
+            } else {
+                numero(profundidad);
+            }
+        }
+    }
+
+    private static void numero(int profundidad) {
+        switch (aleatorio.nextInt(profundidad > 2 ? 2 : 5)) {
+            case 0:
+                texto.append(1 + aleatorio.nextInt(8)).append(' ');
+                break;
+            case 1:
+                texto.append("2.5 ");
+                break;
+            case 2:
+                texto.append(aleatorio.nextBoolean() ? "quien " : "grinch ").append(aleatorio.nextInt(9)).append(' ');
+                break;
+            case 3:
+                texto.append(aleatorio.nextInt(9)).append(aleatorio.nextBoolean() ? " quien " : " grinch ");
+                break;
+            default:
+                texto.append("abreregalo ");
+                aritmetica(profundidad + 1);
+                texto.append("cierraregalo ");
+                break;
+        }
+    }
+
+    /**
+     * Agrega una llamada a una función ya declarada, o un literal si todavía no hay ninguna.
+     */
+    private static void llamada(int profundidad) {
+        if (funcionesAnteriores == 0) {
+            texto.append("1 ");
+            return;
+        }
+        texto.append("_f").append(aleatorio.nextInt(funcionesAnteriores)).append("_ abreregalo ");
+        if (aleatorio.nextBoolean()) {
+            expresion(profundidad);
+            if (aleatorio.nextBoolean()) {
+                texto.append(", ");
+                expresion(profundidad);
+            }
+        }
+        texto.append("cierraregalo ");
+    }
+
+    private static String tipo() {
+        return TIPOS[aleatorio.nextInt(TIPOS.length)];
+    }
+
+    private static String variable() {
+        return "_v" + aleatorio.nextInt(5) + "_";
+    }
+}
@@ -0,0 +1,65 @@
+package Clases;
+
+/**
+ * Medición de los dos almacenamientos de la tabla de símbolos ({@link AlmacenLista} y
+ * {@link AlmacenColumnar}) con una tabla grande.
+ * <p>
+ * Para cada almacenamiento mide la memoria retenida por las filas, el recorrido completo con los
+ * métodos de acceso por fila y el recorrido con {@link AlmacenSimbolos#get(int)}, que en el
+ * almacenamiento columnar crea una vista por fila. Uso:
+ * {@code java Clases.MedicionAlmacen [filas] [repeticiones]}.
+ * </p>
+ */
+public class MedicionAlmacen {
+
+    public static void main(String[] args) {
+        int filas = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int repeticiones = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+
+        for (int ronda = 0; ronda < 2; ronda++) {
+            // La primera ronda solo calienta el JIT
+            boolean imprimir = ronda == 1;
+            medir("lista", new AlmacenLista(new Identificadores()), filas, repeticiones, imprimir);
+            medir("columnar", new AlmacenColumnar(new Identificadores()), filas, repeticiones, imprimir);
+        }
+    }
+
+    private static void medir(String nombre, AlmacenSimbolos almacen, int filas, int repeticiones, boolean imprimir) {
+        long antes = memoriaUsada();
+        TipoDatos[] tipos = TipoDatos.values();
+        for (int i = 0; i < filas; i++) {
+            almacen.agregar(tipos[i % tipos.length], TipoSimbolo.VARIABLE, i % 5000, null, -1, i & 3, i % 100);
+        }
+        long retenida = memoriaUsada() - antes;
+
+        long inicio = System.nanoTime();
+        long suma = 0;
+        for (int r = 0; r < repeticiones; r++) {
+            for (int fila = 0; fila < almacen.size(); fila++) {
+                suma += almacen.nombre(fila) + almacen.ambito(fila) + almacen.tipo(fila).ordinal();
+            }
+        }
+        long porFila = System.nanoTime() - inicio;
+
+        inicio = System.nanoTime();
+        for (int r = 0; r < repeticiones; r++) {
+            for (Simbolo simbolo : almacen) {
+                suma += simbolo.getIdNombre() + simbolo.getIdAmbito() + simbolo.getTipo().ordinal();
+            }
+        }
+        long porObjeto = System.nanoTime() - inicio;
+
+        if (imprimir) {
+            System.out.printf("%-8s filas=%d retenida=%d MB accesos=%d ms get=%d ms (%d)%n", nombre, filas,
+                    retenida >> 20, porFila / 1_000_000, porObjeto / 1_000_000, suma);
+        }
+    }
+
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
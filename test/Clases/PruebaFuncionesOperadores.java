@@ -0,0 +1,58 @@
+package Clases;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import java_cup.runtime.Symbol;
+
+/**
+ * Prueba de los mensajes de error de {@link FuncionesOperadores}.
+ * <p>
+ * Las cadenas del lexer llegan como {@link CadenaFuente}; los mensajes de tipos incompatibles
+ * deben mostrarlas como {@code String}, igual que cuando las cadenas se copiaban, por ejemplo en
+ * {@code rodolfo _x_ entrega "ab" navidad 1}. Uso: {@code java Clases.PruebaFuncionesOperadores};
+ * termina con código 1 si algún caso falla.
+ * </p>
+ */
+public class PruebaFuncionesOperadores {
+
+    private static int fallos;
+
+    public static void main(String[] args) {
+        char[] fuente = "\"ab\"".toCharArray();
+        Symbol cadena = new Symbol(-1, new CadenaFuente(fuente, 1, 2));
+        Symbol entero = new Symbol(-1, 1);
+        Symbol booleano = new Symbol(-1, true);
+
+        comprobar("aritmética con cadena del lexer",
+                diagnosticos -> FuncionesOperadores.combinarExpresionesAritmeticas(cadena, Operador.SUMA, entero, diagnosticos),
+                "Error semántico: Tipos incompatibles: class java.lang.String y class java.lang.Integer");
+        comprobar("aritmética con String",
+                diagnosticos -> FuncionesOperadores.combinarExpresionesAritmeticas(entero, Operador.SUMA, new Symbol(-1, "ab"), diagnosticos),
+                "Error semántico: Tipos incompatibles: class java.lang.Integer y class java.lang.String");
+        comprobar("lógica con cadena del lexer",
+                diagnosticos -> FuncionesOperadores.combinarExpresionesLogicas(booleano, Operador.Y, cadena, diagnosticos),
+                "Error semántico: Tipos incompatibles: class java.lang.Boolean y class java.lang.String");
+        comprobar("lógica con cadena a la izquierda",
+                diagnosticos -> FuncionesOperadores.combinarExpresionesLogicas(cadena, Operador.O, null, diagnosticos),
+                "Error semántico: Tipos incompatibles: class java.lang.String y null");
+
+        if (fallos > 0) {
+            System.out.println(fallos + " casos fallaron.");
+            System.exit(1);
+        }
+        System.out.println("Todos los casos pasaron.");
+    }
+
+    private static void comprobar(String nombre, Consumer<PrintStream> operacion, String esperado) {
+        ByteArrayOutputStream capturado = new ByteArrayOutputStream();
+        operacion.accept(new PrintStream(capturado, true, StandardCharsets.UTF_8));
+        String obtenido = capturado.toString(StandardCharsets.UTF_8).strip();
+        if (!obtenido.equals(esperado)) {
+            fallos++;
+            System.out.println("FALLA " + nombre + ": se esperaba \"" + esperado + "\" y se obtuvo \"" + obtenido + "\"");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package JFLEX;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import CUP.sym;
+
+/**
+ * Medición de la lectura del archivo fuente con un {@code FileReader} y con {@link EntradaMapeada}.
+ * <p>
+ * Arma una entrada sintética grande repitiendo un programa de ejemplo y, para cada forma de lectura,
+ * mide la lectura sola (vaciando el {@code Reader}) y el análisis léxico completo. Uso:
+ * {@code java JFLEX.MedicionEntrada [programa] [megabytes] [repeticiones]}.
+ * </p>
+ */
+public class MedicionEntrada {
+
+    public static void main(String[] args) throws IOException {
+        Path programa = Paths.get(args.length > 0 ? args[0] : "src/Prueba.txt");
+        int megabytes = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int repeticiones = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        Path entrada = Files.createTempFile("medicion", ".txt");
+        try {
+            String texto = Files.readString(programa, StandardCharsets.UTF_8) + "\n";
+            long objetivo = (long) megabytes << 20;
+            try (Writer salida = Files.newBufferedWriter(entrada, StandardCharsets.UTF_8)) {
+                for (long escritos = 0; escritos < objetivo; escritos += texto.length()) {
+                    salida.write(texto);
+                }
+            }
+            double tamano = Files.size(entrada) / 1048576.0;
+
+            for (int r = 0; r < repeticiones; r++) {
+                long inicio = System.nanoTime();
+                long caracteresReader = vaciar(new FileReader(entrada.toFile(), StandardCharsets.UTF_8));
+                long lecturaReader = System.nanoTime() - inicio;
+
+                inicio = System.nanoTime();
+                long caracteresMapeada = vaciar(EntradaMapeada.abrir(entrada));
+                long lecturaMapeada = System.nanoTime() - inicio;
+
+                inicio = System.nanoTime();
+                int tokensReader = contarTokens(new FileReader(entrada.toFile(), StandardCharsets.UTF_8));
+                long lexerReader = System.nanoTime() - inicio;
+
+                inicio = System.nanoTime();
+                int tokensMapeada = contarTokens(EntradaMapeada.abrir(entrada));
+                long lexerMapeada = System.nanoTime() - inicio;
+
+                if (caracteresReader != caracteresMapeada || tokensReader != tokensMapeada) {
+                    throw new IllegalStateException("Las dos lecturas no coinciden: " + caracteresReader + "/"
+                            + caracteresMapeada + " caracteres, " + tokensReader + "/" + tokensMapeada + " tokens.");
+                }
+                System.out.printf("%.0f MB, %d tokens: lectura FileReader %.0f MB/s, mapeada %.0f MB/s;"
+                                + " lexer FileReader %.0f MB/s, mapeada %.0f MB/s%n", tamano, tokensReader,
+                        velocidad(tamano, lecturaReader), velocidad(tamano, lecturaMapeada),
+                        velocidad(tamano, lexerReader), velocidad(tamano, lexerMapeada));
+            }
+        } finally {
+            Files.delete(entrada);
+        }
+    }
+
+    private static long vaciar(Reader lector) throws IOException {
+        char[] buffer = new char[16384];
+        long total = 0;
+        try (Reader entrada = lector) {
+            int leidos;
+            while ((leidos = entrada.read(buffer, 0, buffer.length)) != -1) {
+                total += leidos;
+            }
+        }
+        return total;
+    }
+
+    private static int contarTokens(Reader lector) throws IOException {
+        try (Reader entrada = lector) {
+            Lexer lexer = new Lexer(entrada);
+            lexer.desactivarImpresionErrores();
+            int tokens = 0;
+            while (lexer.next_token().sym != sym.EOF) {
+                tokens++;
+            }
+            return tokens;
+        }
+    }
+
+    private static double velocidad(double megabytes, long nanos) {
+        return megabytes / (nanos / 1e9);
+    }
+}
@@ -0,0 +1,72 @@
+package JFLEX;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import Clases.Identificadores;
+
+/**
+ * Medición de {@link LexerBytes} contra el {@link Lexer} generado en modo empaquetado.
+ * <p>
+ * Arma una entrada sintética grande repitiendo un programa de ejemplo y mide, desde el archivo
+ * hasta los tokens empaquetados, el camino decodificado (lectura con {@link EntradaMapeada} y
+ * {@code Lexer}) y el de bytes (lectura sin decodificar y {@code LexerBytes}). Uso:
+ * {@code java JFLEX.MedicionLexerBytes [programa] [megabytes] [repeticiones]}.
+ * </p>
+ */
+public class MedicionLexerBytes {
+
+    public static void main(String[] args) throws IOException {
+        Path programa = Paths.get(args.length > 0 ? args[0] : "src/Prueba.txt");
+        int megabytes = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int repeticiones = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        Path entrada = Files.createTempFile("medicion", ".txt");
+        PrintStream errores = System.err;
+        // Los errores léxicos del programa de ejemplo no forman parte de la medición
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            String texto = Files.readString(programa, StandardCharsets.UTF_8) + "\n";
+            long objetivo = (long) megabytes << 20;
+            try (Writer salida = Files.newBufferedWriter(entrada, StandardCharsets.UTF_8)) {
+                for (long escritos = 0; escritos < objetivo; escritos += texto.length()) {
+                    salida.write(texto);
+                }
+            }
+            double tamano = Files.size(entrada) / 1048576.0;
+
+            for (int r = 0; r < repeticiones; r++) {
+                long inicio = System.nanoTime();
+                CharBuffer contenido = EntradaMapeada.leer(entrada);
+                Lexer lexer = new Lexer(java.io.Reader.nullReader());
+                lexer.cargarEntrada(contenido.array(), contenido.limit());
+                lexer.setIdentificadores(new Identificadores());
+                TokensEmpaquetados generados = TokensEmpaquetados.grabar(lexer, null);
+                long tiempoLexer = System.nanoTime() - inicio;
+
+                inicio = System.nanoTime();
+                ByteBuffer bytes = EntradaMapeada.leerBytes(entrada);
+                TokensEmpaquetados deBytes = LexerBytes.analizar(bytes, new Identificadores());
+                long tiempoBytes = System.nanoTime() - inicio;
+
+                if (generados.cantidad() != deBytes.cantidad()) {
+                    throw new IllegalStateException("Los dos lexers no coinciden: " + generados.cantidad() + "/"
+                            + deBytes.cantidad() + " tokens.");
+                }
+                System.out.printf("%.0f MB, %d tokens: Lexer %.0f MB/s, LexerBytes %.0f MB/s%n", tamano,
+                        generados.cantidad(), tamano / (tiempoLexer / 1e9), tamano / (tiempoBytes / 1e9));
+            }
+        } finally {
+            System.setErr(errores);
+            Files.delete(entrada);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package JFLEX;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import CUP.sym;
+import java_cup.runtime.Symbol;
+
+/**
+ * Prueba de {@link FlujoTokens}.
+ * <p>
+ * Cubre el iterador, la división del {@code Spliterator} y el control de demanda y la cancelación
+ * del publicador, comparando siempre con los tokens que entrega el {@link Lexer} directamente.
+ * Uso: {@code java JFLEX.PruebaFlujoTokens}; termina con código 1 si algún caso falla.
+ * </p>
+ */
+public class PruebaFlujoTokens {
+
+    /** Cinco tokens por línea; con 500 líneas el flujo no cabe en un solo lote. */
+    private static final String TEXTO = "rodolfo _x_ entrega 1 finregalo\n".repeat(500);
+
+    private static int fallos;
+
+    public static void main(String[] args) throws Exception {
+        List<String> esperados = new ArrayList<>();
+        Lexer lexer = lexer();
+        for (Symbol token = lexer.next_token(); token.sym != sym.EOF; token = lexer.next_token()) {
+            esperados.add(describir(token));
+        }
+
+        probarIterador(esperados);
+        probarDivision(esperados);
+        probarStreamParalelo(esperados);
+        probarDemanda(esperados);
+        probarCancelacion();
+        probarPedidoInvalido();
+        probarSegundoSuscriptor();
+
+        if (fallos > 0) {
+            System.out.println(fallos + " casos fallaron.");
+            System.exit(1);
+        }
+        System.out.println("Todos los casos pasaron.");
+    }
+
+    private static void probarIterador(List<String> esperados) {
+        Iterator<Symbol> iterador = FlujoTokens.iterador(lexer());
+        List<String> obtenidos = new ArrayList<>();
+        while (iterador.hasNext()) {
+            // hasNext puede llamarse varias veces sin consumir tokens
+            iterador.hasNext();
+            obtenidos.add(describir(iterador.next()));
+        }
+        comprobar("iterador", obtenidos.equals(esperados));
+        comprobar("iterador sin más tokens", !iterador.hasNext());
+        try {
+            iterador.next();
+            comprobar("next después del fin lanza NoSuchElementException", false);
+        } catch (NoSuchElementException e) {
+            // Esperado
+        }
+    }
+
+    private static void probarDivision(List<String> esperados) {
+        Spliterator<Symbol> resto = FlujoTokens.spliterator(lexer());
+        Spliterator<Symbol> lote = resto.trySplit();
+        comprobar("trySplit separa un lote", lote != null && lote.estimateSize() == 1024);
+        comprobar("el lote es ordenado", lote != null && lote.hasCharacteristics(Spliterator.ORDERED));
+
+        List<String> obtenidos = new ArrayList<>();
+        lote.forEachRemaining(token -> obtenidos.add(describir(token)));
+        resto.forEachRemaining(token -> obtenidos.add(describir(token)));
+        comprobar("el lote y el resto siguen el orden de la fuente", obtenidos.equals(esperados));
+        comprobar("trySplit al final devuelve null", resto.trySplit() == null);
+    }
+
+    private static void probarStreamParalelo(List<String> esperados) {
+        List<String> obtenidos = FlujoTokens.stream(lexer()).parallel()
+                .map(PruebaFlujoTokens::describir).collect(Collectors.toList());
+        comprobar("stream paralelo", obtenidos.equals(esperados));
+    }
+
+    private static void probarDemanda(List<String> esperados) throws InterruptedException {
+        ExecutorService ejecutor = Executors.newSingleThreadExecutor();
+        try {
+            Suscriptor suscriptor = new Suscriptor();
+            FlujoTokens.publicador(lexer(), ejecutor).subscribe(suscriptor);
+            suscriptor.suscripcion.request(3);
+            esperarEjecutor(ejecutor);
+            comprobar("se entregan solo los tokens pedidos", suscriptor.tokens.size() == 3);
+
+            suscriptor.suscripcion.request(2);
+            esperarEjecutor(ejecutor);
+            comprobar("un segundo pedido suma a la demanda", suscriptor.tokens.size() == 5
+                    && suscriptor.tokens.equals(esperados.subList(0, 5)));
+
+            suscriptor.suscripcion.request(Long.MAX_VALUE);
+            comprobar("el flujo termina con onComplete", suscriptor.fin.await(10, TimeUnit.SECONDS) && suscriptor.completo);
+            comprobar("se entregan todos los tokens en orden", suscriptor.tokens.equals(esperados));
+        } finally {
+            ejecutor.shutdown();
+        }
+    }
+
+    private static void probarCancelacion() throws InterruptedException {
+        ExecutorService ejecutor = Executors.newSingleThreadExecutor();
+        try {
+            Suscriptor suscriptor = new Suscriptor();
+            FlujoTokens.publicador(lexer(), ejecutor).subscribe(suscriptor);
+            suscriptor.suscripcion.request(4);
+            esperarEjecutor(ejecutor);
+            suscriptor.suscripcion.cancel();
+            suscriptor.suscripcion.request(10);
+            esperarEjecutor(ejecutor);
+            comprobar("después de cancelar no se entregan más tokens", suscriptor.tokens.size() == 4
+                    && !suscriptor.completo && suscriptor.error == null);
+        } finally {
+            ejecutor.shutdown();
+        }
+    }
+
+    private static void probarPedidoInvalido() throws InterruptedException {
+        ExecutorService ejecutor = Executors.newSingleThreadExecutor(tarea -> new Thread(tarea, "entrega"));
+        try {
+            Suscriptor suscriptor = new Suscriptor();
+            FlujoTokens.publicador(lexer(), ejecutor).subscribe(suscriptor);
+            suscriptor.suscripcion.request(2);
+            suscriptor.suscripcion.request(0);
+            comprobar("un pedido no positivo termina con onError", suscriptor.fin.await(10, TimeUnit.SECONDS)
+                    && suscriptor.error instanceof IllegalArgumentException);
+            // El error puede adelantarse a los tokens pedidos antes, pero nunca se entrega en el
+            // hilo que hizo el pedido
+            comprobar("el error se entrega en el ejecutor", "entrega".equals(suscriptor.hiloError)
+                    && suscriptor.tokens.size() <= 2);
+        } finally {
+            ejecutor.shutdown();
+        }
+    }
+
+    private static void probarSegundoSuscriptor() throws InterruptedException {
+        ExecutorService ejecutor = Executors.newSingleThreadExecutor();
+        try {
+            Flow.Publisher<Symbol> publicador = FlujoTokens.publicador(lexer(), ejecutor);
+            publicador.subscribe(new Suscriptor());
+            Suscriptor segundo = new Suscriptor();
+            publicador.subscribe(segundo);
+            comprobar("un segundo suscriptor recibe onError", segundo.fin.await(10, TimeUnit.SECONDS)
+                    && segundo.error instanceof IllegalStateException);
+        } finally {
+            ejecutor.shutdown();
+        }
+    }
+
+    private static Lexer lexer() {
+        Lexer lexer = new Lexer(new StringReader(TEXTO));
+        lexer.desactivarImpresionErrores();
+        return lexer;
+    }
+
+    private static String describir(Symbol token) {
+        return token.sym + "@" + token.left + ":" + token.right + "=" + token.value;
+    }
+
+    /**
+     * Espera a que el ejecutor de un solo hilo termine las entregas programadas hasta ahora.
+     */
+    private static void esperarEjecutor(ExecutorService ejecutor) throws InterruptedException {
+        CountDownLatch listo = new CountDownLatch(1);
+        ejecutor.execute(listo::countDown);
+        listo.await(10, TimeUnit.SECONDS);
+    }
+
+    private static void comprobar(String nombre, boolean correcto) {
+        if (!correcto) {
+            fallos++;
+            System.out.println("FALLA " + nombre);
+        }
+    }
+
+    private static final class Suscriptor implements Flow.Subscriber<Symbol> {
+
+        final List<String> tokens = new ArrayList<>();
+        final CountDownLatch fin = new CountDownLatch(1);
+        volatile Flow.Subscription suscripcion;
+        volatile boolean completo;
+        volatile Throwable error;
+        volatile String hiloError;
+
+        @Override
+        public void onSubscribe(Flow.Subscription suscripcion) {
+            this.suscripcion = suscripcion;
+        }
+
+        @Override
+        public void onNext(Symbol token) {
+            tokens.add(describir(token));
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+            hiloError = Thread.currentThread().getName();
+            fin.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completo = true;
+            fin.countDown();
+        }
+    }
+}
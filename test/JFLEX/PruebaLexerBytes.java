@@ -0,0 +1,104 @@
+package JFLEX;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import CUP.sym;
+import Clases.Identificadores;
+
+/**
+ * Prueba diferencial de {@link LexerBytes} contra el {@link Lexer} generado.
+ * <p>
+ * {@code LexerBytes} repite a mano las reglas de {@code Lexer.jflex}, así que cada entrada al azar
+ * se analiza con los dos y se comparan los tokens, sus textos, líneas y columnas, y los errores
+ * léxicos. Las entradas mezclan trozos elegidos para rozar los bordes de las reglas (comentarios
+ * sin cerrar, números con signo, caracteres fuera del plano básico, saltos de línea poco comunes)
+ * con bytes al azar que no siempre forman UTF-8 válido. Uso:
+ * {@code java JFLEX.PruebaLexerBytes [semilla] [casos]}; termina con código 1 si algún caso no
+ * coincide.
+ * </p>
+ */
+public class PruebaLexerBytes {
+
+    private static final String[] TROZOS = {"\n", "\r\n", "\r", " ", "\t", "\\_", "_/", "\\n", "\"", "'", "'a'", "'é'",
+            "'😀'", "rodolfo", "_x_", "_verano_", "_a", "12", "-", "-3", "3.5", "3.", "#", "# comé x", "@", "finregalo",
+            "abrecuento", "true", "falsex", "Abc", "a_b", ",", "$", "/", "\\", "\"([^\"\\\\]|\\\\.)*\"", "\".*?\"", "é",
+            "\u00A0", "\u0085", "\u000B", "\u2028", "😀", "\\_ a \\_ b \\n \\_ _/", "\"cadé\nx\"", "quien", "x"};
+
+    public static void main(String[] args) throws IOException {
+        Random aleatorio = new Random(args.length > 0 ? Long.parseLong(args[0]) : 1);
+        int casos = args.length > 1 ? Integer.parseInt(args[1]) : 20000;
+        int fallos = 0;
+        for (int k = 0; k < casos; k++) {
+            ByteArrayOutputStream salida = new ByteArrayOutputStream();
+            for (int j = aleatorio.nextInt(40); j > 0; j--) {
+                if (aleatorio.nextInt(8) == 0) {
+                    for (int q = 1 + aleatorio.nextInt(4); q > 0; q--) {
+                        salida.write(aleatorio.nextInt(256));
+                    }
+                } else {
+                    salida.writeBytes(TROZOS[aleatorio.nextInt(TROZOS.length)].getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            byte[] entrada = salida.toByteArray();
+            String diferencia = diferencia(analizarConLexer(entrada), LexerBytes.analizar(ByteBuffer.wrap(entrada), new Identificadores()));
+            if (diferencia != null) {
+                fallos++;
+                if (fallos <= 3) {
+                    System.out.println("FALLA caso " + k + " " + Arrays.toString(entrada) + ": " + diferencia);
+                }
+            }
+        }
+        System.out.println(casos + " casos, " + fallos + " fallos.");
+        if (fallos > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Analiza la entrada con el lexer generado, guardando los errores en el flujo igual que
+     * {@code LexerBytes}.
+     */
+    private static TokensEmpaquetados analizarConLexer(byte[] entrada) throws IOException {
+        Lexer lexer = Lexer.leerCompleto(new InputStreamReader(new ByteArrayInputStream(entrada), StandardCharsets.UTF_8));
+        lexer.setIdentificadores(new Identificadores());
+        TokensEmpaquetados tokens = lexer.empaquetarFragmento(Integer.MAX_VALUE);
+        while (lexer.next_token().sym != sym.EOF) {
+            // Los tokens se agregan al flujo empaquetado
+        }
+        return tokens;
+    }
+
+    private static String diferencia(TokensEmpaquetados esperados, TokensEmpaquetados obtenidos) {
+        if (esperados.longitudFuente() != obtenidos.longitudFuente()) {
+            return "longitud del texto " + obtenidos.longitudFuente() + " en lugar de " + esperados.longitudFuente();
+        }
+        if (esperados.cantidad() != obtenidos.cantidad()) {
+            return "cantidad de tokens " + obtenidos.cantidad() + " en lugar de " + esperados.cantidad();
+        }
+        for (int i = 0; i < esperados.cantidad(); i++) {
+            if (esperados.tipo(i) != obtenidos.tipo(i) || esperados.inicio(i) != obtenidos.inicio(i)
+                    || esperados.longitud(i) != obtenidos.longitud(i) || !esperados.texto(i).equals(obtenidos.texto(i))
+                    || esperados.linea(i) != obtenidos.linea(i) || esperados.columna(i) != obtenidos.columna(i)) {
+                return "token " + i + " " + obtenidos.tipo(i) + "@" + obtenidos.inicio(i) + "+" + obtenidos.longitud(i)
+                        + " en lugar de " + esperados.tipo(i) + "@" + esperados.inicio(i) + "+" + esperados.longitud(i);
+            }
+        }
+        if (esperados.cantidadErrores() != obtenidos.cantidadErrores()) {
+            return "cantidad de errores " + obtenidos.cantidadErrores() + " en lugar de " + esperados.cantidadErrores();
+        }
+        for (int e = 0; e < esperados.cantidadErrores(); e++) {
+            if (esperados.posicionError(e) != obtenidos.posicionError(e)
+                    || !esperados.mensajeError(e).equals(obtenidos.mensajeError(e))) {
+                return "error \"" + obtenidos.mensajeError(e) + "\" en lugar de \"" + esperados.mensajeError(e) + "\"";
+            }
+        }
+        return null;
+    }
+}
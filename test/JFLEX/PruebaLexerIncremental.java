@@ -0,0 +1,106 @@
+package JFLEX;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.Random;
+
+import Clases.Identificadores;
+
+/**
+ * Prueba de {@link LexerIncremental} con ediciones al azar.
+ * <p>
+ * Parte de un programa de ejemplo y le aplica ediciones sucesivas, cada una reemplazando unos
+ * pocos caracteres por trozos elegidos para romper tokens: saltos de línea de todos los tipos,
+ * inicios y finales de comentarios, comillas y palabras. Después de cada edición compara los tokens
+ * y los errores de {@link LexerIncremental#reanalizar} con los de un análisis completo del texto
+ * editado. Uso: {@code java JFLEX.PruebaLexerIncremental [programa] [semilla] [ediciones]};
+ * termina con código 1 si alguna edición no coincide.
+ * </p>
+ */
+public class PruebaLexerIncremental {
+
+    private static final String[] TROZOS = {"\r", "\u2028", "\u000B", "\n", "\r\n", "\\_", "_/", "\"", "'", "'a'",
+            " ", "rodolfo", "_x_", "12", "3.5", "#", "@", "finregalo", "abrecuento\n", "\\_ comentario\nlargo _/",
+            "\"cad\nena\"", "a", "_", "/", "\\"};
+
+    public static void main(String[] args) throws IOException {
+        String texto = Files.readString(Paths.get(args.length > 0 ? args[0] : "src/Prueba.txt"), StandardCharsets.UTF_8);
+        Random aleatorio = new Random(args.length > 1 ? Long.parseLong(args[1]) : 1);
+        int ediciones = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+
+        Identificadores identificadores = new Identificadores();
+        LexerIncremental incremental = new LexerIncremental(identificadores);
+        char[] fuente = texto.toCharArray();
+        TokensEmpaquetados tokens = incremental.analizar(fuente, fuente.length);
+        int fallos = 0;
+        long tiempoIncremental = 0;
+        long tiempoCompleto = 0;
+        for (int k = 0; k < ediciones; k++) {
+            int inicio = aleatorio.nextInt(texto.length() + 1);
+            int eliminados = Math.min(aleatorio.nextInt(4) == 0 ? aleatorio.nextInt(40) : aleatorio.nextInt(3),
+                    texto.length() - inicio);
+            StringBuilder insertado = new StringBuilder();
+            for (int j = aleatorio.nextInt(3); j > 0; j--) {
+                insertado.append(TROZOS[aleatorio.nextInt(TROZOS.length)]);
+            }
+            String editado = texto.substring(0, inicio) + insertado + texto.substring(inicio + eliminados);
+            char[] nueva = editado.toCharArray();
+
+            long antes = System.nanoTime();
+            TokensEmpaquetados reanalizados = incremental.reanalizar(tokens, nueva, nueva.length, inicio, eliminados, insertado.length());
+            long medio = System.nanoTime();
+            TokensEmpaquetados completos = new LexerIncremental(identificadores).analizar(nueva, nueva.length);
+            tiempoIncremental += medio - antes;
+            tiempoCompleto += System.nanoTime() - medio;
+
+            String diferencia = diferencia(reanalizados, completos);
+            if (diferencia != null) {
+                fallos++;
+                if (fallos <= 3) {
+                    System.out.println("FALLA edición " + k + " en " + inicio + ", " + eliminados + " eliminados, insertado \""
+                            + insertado.toString().replace("\n", "\\n").replace("\r", "\\r") + "\": " + diferencia);
+                }
+                // Se sigue desde el análisis completo para que un fallo no arrastre a los siguientes
+                reanalizados = completos;
+            }
+            tokens = reanalizados;
+            texto = editado;
+        }
+
+        System.out.printf("%d ediciones, %d fallos; incremental %.3f ms, completo %.3f ms en promedio%n", ediciones, fallos,
+                tiempoIncremental / 1e6 / ediciones, tiempoCompleto / 1e6 / ediciones);
+        if (fallos > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static String diferencia(TokensEmpaquetados obtenidos, TokensEmpaquetados esperados) {
+        if (obtenidos.cantidad() != esperados.cantidad()) {
+            return "cantidad de tokens " + obtenidos.cantidad() + " en lugar de " + esperados.cantidad();
+        }
+        for (int i = 0; i < obtenidos.cantidad(); i++) {
+            if (obtenidos.tipo(i) != esperados.tipo(i) || obtenidos.inicio(i) != esperados.inicio(i)
+                    || obtenidos.longitud(i) != esperados.longitud(i) || obtenidos.linea(i) != esperados.linea(i)
+                    || obtenidos.columna(i) != esperados.columna(i) || !Objects.equals(obtenidos.valor(i), esperados.valor(i))) {
+                return "token " + i + " " + describir(obtenidos, i) + " en lugar de " + describir(esperados, i);
+            }
+        }
+        if (obtenidos.cantidadErrores() != esperados.cantidadErrores()) {
+            return "cantidad de errores " + obtenidos.cantidadErrores() + " en lugar de " + esperados.cantidadErrores();
+        }
+        for (int e = 0; e < obtenidos.cantidadErrores(); e++) {
+            if (obtenidos.posicionError(e) != esperados.posicionError(e)
+                    || !obtenidos.mensajeError(e).equals(esperados.mensajeError(e))) {
+                return "error " + e + " \"" + obtenidos.mensajeError(e) + "\" en lugar de \"" + esperados.mensajeError(e) + "\"";
+            }
+        }
+        return null;
+    }
+
+    private static String describir(TokensEmpaquetados tokens, int i) {
+        return tokens.tipo(i) + "@" + tokens.inicio(i) + " (línea " + tokens.linea(i) + ", columna " + tokens.columna(i) + ")";
+    }
+}
@@ -0,0 +1,90 @@
+package JFLEX;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import Clases.Identificadores;
+import CUP.sym;
+import java_cup.runtime.Symbol;
+
+/**
+ * Prueba del {@link Lexer} leyendo de un {@code Reader} una entrada más grande que su buffer.
+ * <p>
+ * El lexer recarga el buffer a medida que avanza, así que los valores de los tokens no pueden
+ * apuntar a él. Compara los tokens con los de {@link Lexer#leerCompleto}, que tiene toda la entrada
+ * en memoria, y revisa el valor de cada cadena. Uso: {@code java JFLEX.PruebaLexerRecarga};
+ * termina con código 1 si algún token no coincide.
+ * </p>
+ */
+public class PruebaLexerRecarga {
+
+    private static final int FUNCIONES = 300;
+
+    public static void main(String[] args) throws IOException {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < FUNCIONES; i++) {
+            texto.append("rodolfo _f").append(i).append("_ abreregalo cierraregalo\r\n")
+                    .append("abrecuento\n")
+                    .append("    \\_ comentario\nde dos líneas _/\n")
+                    .append("    cometa _s_ entrega \"hola ").append(i).append("\" finregalo\n")
+                    .append("    trueno _c_ entrega 'x' finregalo\n")
+                    .append("    envia ").append(i).append(" navidad 2.5 finregalo\n")
+                    .append("cierracuento\n");
+        }
+
+        List<String> leidos = tokens(new Lexer(new StringReader(texto.toString())));
+        List<String> completos = tokens(Lexer.leerCompleto(new StringReader(texto.toString())));
+        int fallos = 0;
+        if (leidos.size() != completos.size()) {
+            fallos++;
+            System.out.println("FALLA cantidad de tokens " + leidos.size() + " en lugar de " + completos.size());
+        }
+        for (int i = 0; i < Math.min(leidos.size(), completos.size()); i++) {
+            if (!leidos.get(i).equals(completos.get(i))) {
+                if (++fallos <= 3) {
+                    System.out.println("FALLA token " + i + ": " + leidos.get(i) + " en lugar de " + completos.get(i));
+                }
+            }
+        }
+
+        // Las cadenas además deben tener su propio texto, no el que quedó después en el buffer
+        int cadena = 0;
+        for (String token : leidos) {
+            if (token.startsWith(sym.STRING_LITERAL + "@")) {
+                String esperado = "=hola " + cadena++;
+                if (!token.endsWith(esperado)) {
+                    if (++fallos <= 6) {
+                        System.out.println("FALLA cadena " + token + " en lugar de " + esperado);
+                    }
+                }
+            }
+        }
+        if (cadena != FUNCIONES) {
+            fallos++;
+            System.out.println("FALLA " + cadena + " cadenas en lugar de " + FUNCIONES);
+        }
+
+        if (fallos > 0) {
+            System.out.println(fallos + " casos fallaron.");
+            System.exit(1);
+        }
+        System.out.println("Todos los casos pasaron.");
+    }
+
+    private static List<String> tokens(Lexer lexer) throws IOException {
+        lexer.desactivarImpresionErrores();
+        lexer.setIdentificadores(new Identificadores());
+        List<Symbol> simbolos = new ArrayList<>();
+        for (Symbol token = lexer.next_token(); token.sym != sym.EOF; token = lexer.next_token()) {
+            simbolos.add(token);
+        }
+        // Los valores se leen al final, como los lee la tabla de símbolos después de recargar el buffer
+        List<String> tokens = new ArrayList<>();
+        for (Symbol token : simbolos) {
+            tokens.add(token.sym + "@" + token.left + ":" + token.right + "=" + token.value);
+        }
+        return tokens;
+    }
+}